@@ -12,6 +12,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.InternshipLogic;
 import seedu.address.logic.InternshipLogicManager;
@@ -22,12 +23,14 @@ import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.ReadOnlyInternshipUserPrefs;
 import seedu.address.model.util.InternshipSampleDataUtil;
+import seedu.address.storage.BinaryCachedInternshipDataStorage;
 import seedu.address.storage.InternshipDataStorage;
 import seedu.address.storage.InternshipStorage;
 import seedu.address.storage.InternshipStorageManager;
 import seedu.address.storage.InternshipUserPrefsStorage;
-import seedu.address.storage.JsonInternshipDataStorage;
+import seedu.address.storage.JournaledInternshipDataStorage;
 import seedu.address.storage.JsonInternshipUserPrefsStorage;
+import seedu.address.storage.StreamingJsonInternshipDataStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,13 +60,17 @@ public class MainApp extends Application {
 
         InternshipUserPrefsStorage userPrefsStorage = new JsonInternshipUserPrefsStorage(config.getUserPrefsFilePath());
         InternshipUserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InternshipDataStorage internshipDataStorage =
-                new JsonInternshipDataStorage(userPrefs.getInternshipDataFilePath());
+        InternshipDataStorage jsonStorage = new StreamingJsonInternshipDataStorage(
+                userPrefs.getInternshipDataFilePath(), false, config.getParallelLoadThreshold());
+        if (config.isBinaryCacheEnabled()) {
+            jsonStorage = new BinaryCachedInternshipDataStorage(jsonStorage);
+        }
+        InternshipDataStorage internshipDataStorage = new JournaledInternshipDataStorage(jsonStorage);
         storage = new InternshipStorageManager(internshipDataStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new InternshipLogicManager(model, storage);
+        logic = new InternshipLogicManager(model, storage, true);
 
         ui = new UiManager(logic);
     }
@@ -71,8 +78,9 @@ public class MainApp extends Application {
     /**
      * Returns a {@code InternshipModelManager} with the data from {@code storage}'s internship data and
      * {@code userPrefs}. <br>
-     * The data from the sample internship data will be used instead if {@code storage}'s internship data is not found,
-     * or an empty internship data will be used instead if errors occur when reading {@code storage}'s internship data.
+     * If {@code storage}'s internship data is not found or cannot be read, the backup kept from the previous save is
+     * used instead. Failing that, the data from the sample internship data will be used if {@code storage}'s internship
+     * data is not found, or an empty internship data will be used if errors occur when reading it.
      */
     private InternshipModel initModelManager(InternshipStorage storage, ReadOnlyInternshipUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getInternshipDataFilePath());
@@ -81,20 +89,41 @@ public class MainApp extends Application {
         ReadOnlyInternshipData initialData;
         try {
             internshipDataOptional = storage.readInternshipData();
+            if (!internshipDataOptional.isPresent()) {
+                internshipDataOptional = readBackupInternshipData(storage);
+            }
             if (!internshipDataOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getInternshipDataFilePath()
                         + " populated with a sample InternshipData.");
             }
             initialData = internshipDataOptional.orElseGet(InternshipSampleDataUtil::getSampleInternshipData);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getInternshipDataFilePath() + " could not be loaded."
-                    + " Will be starting with an empty InternshipData.");
-            initialData = new InternshipData();
+            logger.warning("Data file at " + storage.getInternshipDataFilePath() + " could not be loaded.");
+            initialData = readBackupInternshipData(storage).orElseGet(() -> {
+                logger.warning("Will be starting with an empty InternshipData.");
+                return new InternshipData();
+            });
         }
 
         return new InternshipModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the internship data in the backup kept next to {@code storage}'s data file, or an empty
+     * {@code Optional} if there is no readable backup.
+     */
+    private Optional<ReadOnlyInternshipData> readBackupInternshipData(InternshipStorage storage) {
+        Path backupFilePath = FileUtil.getBackupFilePath(storage.getInternshipDataFilePath());
+        try {
+            Optional<ReadOnlyInternshipData> backup = storage.readInternshipData(backupFilePath);
+            backup.ifPresent(data -> logger.warning("Using the backup data file at " + backupFilePath + "."));
+            return backup;
+        } catch (DataLoadingException e) {
+            logger.warning("Backup data file at " + backupFilePath + " could not be loaded either.");
+            return Optional.empty();
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -179,6 +208,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping CareerSync ] =============================");
+        logic.flushPendingSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -13,10 +13,13 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_PARALLEL_LOAD_THRESHOLD = 5000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int parallelLoadThreshold = DEFAULT_PARALLEL_LOAD_THRESHOLD;
+    private boolean isBinaryCacheEnabled = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the number of records in the internship data file from which the records are converted and
+     * validated in parallel on start-up.
+     */
+    public int getParallelLoadThreshold() {
+        return parallelLoadThreshold;
+    }
+
+    public void setParallelLoadThreshold(int parallelLoadThreshold) {
+        this.parallelLoadThreshold = parallelLoadThreshold;
+    }
+
+    /**
+     * Returns true if a binary copy of the internship data file is kept to speed up start-up.
+     */
+    public boolean isBinaryCacheEnabled() {
+        return isBinaryCacheEnabled;
+    }
+
+    public void setBinaryCacheEnabled(boolean isBinaryCacheEnabled) {
+        this.isBinaryCacheEnabled = isBinaryCacheEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +73,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && parallelLoadThreshold == otherConfig.parallelLoadThreshold
+                && isBinaryCacheEnabled == otherConfig.isBinaryCacheEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, parallelLoadThreshold, isBinaryCacheEnabled);
     }
 
     @Override
@@ -60,6 +88,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("parallelLoadThreshold", parallelLoadThreshold)
+                .add("isBinaryCacheEnabled", isBinaryCacheEnabled)
                 .toString();
     }
 
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,17 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +99,117 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, such that the file holds either its previous or its new content even if the
+     * write is interrupted.
+     *
+     * @see #writeAtomically(Path, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the content of a file with what {@code contentWriter} writes, such that the file holds either its
+     * previous or its new content even if the write is interrupted.
+     * The content is written to a temporary file next to {@code file} and forced to the disk before it is moved
+     * over {@code file}, so that {@code file} exists throughout. The move is then forced to the disk too.
+     * The previous content is kept in the file at {@link #getBackupFilePath(Path)}, which is linked to or copied
+     * from {@code file} before the move. Missing parent directories are created.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, contentWriter, true);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but keeps the previous content of {@code file}
+     * only if {@code isBackedUp}, for files such as caches that can be rebuilt.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean isBackedUp)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(new UnclosableOutputStream(Channels.newOutputStream(channel)),
+                    BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (isBackedUp && Files.exists(file)) {
+            keepBackup(file);
+        }
+        move(tempFile, file);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Returns the location where {@link #writeAtomically(Path, ContentWriter)} keeps the previous content of
+     * {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the backup of {@code file} with a hard link to, or failing that a copy of, {@code file}.
+     */
+    private static void keepBackup(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        Path tempBackupFile = backupFile.resolveSibling(backupFile.getFileName() + TEMP_FILE_SUFFIX);
+        Files.deleteIfExists(tempBackupFile);
+        try {
+            Files.createLink(tempBackupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, tempBackupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        move(tempBackupFile, backupFile);
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to the disk.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open directories; the move itself is already made
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * An {@code OutputStream} that only flushes, instead of closing, the stream it wraps when closed, so that
+     * writers closing their output do not close the file before it is forced to the disk.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
 }
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +26,39 @@ public interface InternshipLogic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command in the background, after every command given before it, and returns a future of the
+     * result. The changes the command makes to the lists of internships, and the future itself, are published
+     * together on the executor set by {@link #setUiExecutor(Executor)}.
+     * @param commandText The command as entered by the user.
+     * @return a future completed with the result, or with the {@code CommandException} or {@code ParseException}
+     *     the command failed with.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Sets the handler that is given the error message of every save that fails after {@link #execute(String)}
+     * has returned. The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> errorHandler);
+
+    /**
+     * Sets the executor on which changes to the lists of internships made in the background are published,
+     * such as {@code Platform::runLater}. By default they are published on the background thread itself.
+     */
+    void setUiExecutor(Executor uiExecutor);
+
+    /**
+     * Blocks until every command given so far, and every change to the selection or the settings requested so far,
+     * has been executed, and its changes handed to the executor set by {@link #setUiExecutor(Executor)}.
+     */
+    void awaitPendingCommands();
+
+    /**
+     * Blocks until every command given so far has been executed, and the data it changed has been saved.
+     */
+    void flushPendingSaves();
+
     /**
      * Returns the InternshipData.
      *
@@ -30,7 +66,10 @@ public interface InternshipLogic {
      */
     ReadOnlyInternshipData getInternshipData();
 
-    /** Returns an unmodifiable view of the filtered list of internships */
+    /**
+     * Returns an unmodifiable view of the filtered list of internships, which changes only when the changes
+     * of a command are published.
+     */
     ObservableList<Internship> getFilteredInternshipList();
 
     /**
@@ -1,8 +1,18 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,14 +22,25 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.InternshipCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.InternshipDataParser;
+import seedu.address.logic.parser.InternshipSortCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
 import seedu.address.storage.InternshipStorage;
+import seedu.address.storage.WriteBehindInternshipDataSaver;
 
 /**
  * The main InternshipLogicManager of the app.
+ *
+ * Commands are parsed and executed one at a time, in the order they are given, on a single worker thread, which is
+ * the only thread that changes the model, including the user prefs it holds. The lists shown to the UI follow the
+ * lists of the model: the changes each command makes to them are published all at once, in the order the commands
+ * were executed, on the executor set by {@link #setUiExecutor(Executor)}.
+ *
+ * Commands that finish while the UI executor has yet to publish the changes of an earlier command are published
+ * together with it, so that a burst of commands changes each list shown to the UI once per task of the executor.
  */
 public class InternshipLogicManager implements InternshipLogic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -27,41 +48,261 @@ public class InternshipLogicManager implements InternshipLogic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Version recorded when the internship data has not been saved at all. */
+    private static final long VERSION_NOT_SAVED = -1;
+
+    private static final String WORKER_THREAD_NAME = "internship-command-worker";
+
     private final Logger logger = LogsCenter.getLogger(InternshipLogicManager.class);
 
     private final InternshipModel model;
     private final InternshipStorage storage;
     private final InternshipDataParser internshipDataParser;
+    private final WriteBehindInternshipDataSaver writeBehindSaver;
+    private final ExecutorService commandWorker;
+    private final PublishedList<Internship> publishedInternships;
+    private final PublishedList<Internship> publishedSelectedInternship;
+    private volatile Consumer<String> saveErrorHandler = message -> { };
+    private volatile Executor uiExecutor = Runnable::run;
+    // The version of the internship data last written to storage, which the writer thread records on write-behind
+    private volatile long savedVersion = VERSION_NOT_SAVED;
+    private long saveCount;
+    private long skippedSaveCount;
+
+    // Held while a publication runs, so that publications run one at a time
+    private final Object publicationLock = new Object();
+    // The publication waiting to be run, if any, and the futures to complete after it
+    private final Object pendingPublicationLock = new Object();
+    private Publication pendingPublication;
+    private final List<Runnable> pendingCompletions = new ArrayList<>();
 
     /**
      * Constructs a {@code InternshipLogicManager} with the
      * given {@code InternshipModel} and {@code Storage}.
+     * The internship data is saved before {@link #execute(String)} returns.
      */
     public InternshipLogicManager(InternshipModel model, InternshipStorage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code InternshipLogicManager} with the
+     * given {@code InternshipModel} and {@code Storage}.
+     *
+     * @param isWriteBehind whether the internship data is saved on a background thread after
+     *     {@link #execute(String)} returns, instead of before. Failed saves are then reported to the handler set by
+     *     {@link #setSaveErrorHandler(Consumer)}.
+     */
+    public InternshipLogicManager(InternshipModel model, InternshipStorage storage, boolean isWriteBehind) {
         this.model = model;
         this.storage = storage;
         internshipDataParser = new InternshipDataParser();
+        // changes made before the logic was created are part of the data it starts from
+        model.takeInternshipDataChanges();
+        writeBehindSaver = isWriteBehind
+                ? new WriteBehindInternshipDataSaver(storage, model.getInternshipData())
+                : null;
+        if (writeBehindSaver != null) {
+            writeBehindSaver.setErrorHandler(this::handleFailedWriteBehind);
+        }
+        restoreSort();
+
+        publishedInternships = new PublishedList<>(model.getFilteredInternshipList());
+        publishedSelectedInternship = new PublishedList<>(model.getSelectedInternship());
+        commandWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    /**
+     * Sorts the internship list again by the sort saved in the user prefs, if any.
+     */
+    private void restoreSort() {
+        String sortSpec = model.getInternshipSortSpec();
+        if (sortSpec.isEmpty()) {
+            return;
+        }
+        try {
+            new InternshipSortCommandParser().parse(sortSpec).execute(model);
+        } catch (ParseException e) {
+            logger.warning("Saved sort " + sortSpec + " is invalid and will be discarded: " + e.getMessage());
+            model.setInternshipSortSpec("");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The command is executed on the worker thread after every command given before it, and the changes to the
+     * lists of the model are published on the calling thread before this method returns, together with those of
+     * the commands before it that are yet to be published.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        requireNonNull(commandText);
+        CommandOutcome outcome = CompletableFuture.supplyAsync(() -> {
+            CommandOutcome workerOutcome = executeOnWorker(commandText);
+            schedulePublication(() -> { });
+            return workerOutcome;
+        }, commandWorker).join();
+        publishPending();
+        return outcome.getResult();
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        commandWorker.execute(() -> {
+            CommandOutcome outcome = executeOnWorker(commandText);
+            schedulePublication(() -> outcome.complete(future));
+        });
+        return future;
+    }
+
+    /**
+     * Takes the changes to the lists of the model since they were last taken, and schedules them, and then
+     * {@code completion}, to be published on the UI executor, together with the publication already waiting to be
+     * run, if any. Must be called on the worker thread, so that publications wait in the order they were taken.
+     */
+    private void schedulePublication(Runnable completion) {
+        Publication publication = new Publication(publishedInternships.takeChanges(),
+                publishedSelectedInternship.takeChanges());
+        boolean isAlreadyScheduled;
+        synchronized (pendingPublicationLock) {
+            isAlreadyScheduled = pendingPublication != null;
+            if (isAlreadyScheduled) {
+                pendingPublication.append(publication);
+            } else {
+                pendingPublication = publication;
+            }
+            pendingCompletions.add(completion);
+        }
+        if (!isAlreadyScheduled) {
+            uiExecutor.execute(this::publishPending);
+        }
+    }
+
+    /**
+     * Runs the publication waiting to be run, if any, and completes the futures waiting for it.
+     */
+    private void publishPending() {
+        Publication publication;
+        List<Runnable> completions;
+        // publications are run one at a time, so that one taken later cannot be run before this one
+        synchronized (publicationLock) {
+            synchronized (pendingPublicationLock) {
+                publication = pendingPublication;
+                completions = new ArrayList<>(pendingCompletions);
+                pendingPublication = null;
+                pendingCompletions.clear();
+            }
+            if (publication != null) {
+                publication.run();
+            }
+        }
+        completions.forEach(Runnable::run);
+    }
+
+    /**
+     * Executes the command on the worker thread, and returns its outcome.
+     */
+    private CommandOutcome executeOnWorker(String commandText) {
+        try {
+            return new CommandOutcome(parseAndExecute(commandText), null);
+        } catch (CommandException | ParseException | RuntimeException e) {
+            return new CommandOutcome(null, e);
+        }
+    }
+
+    private CommandResult parseAndExecute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         InternshipCommand command = internshipDataParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // taken after every command, so that the changes saved next are only those made since the last save
+        InternshipChanges changes = model.takeInternshipDataChanges();
+        long version = model.getInternshipDataVersion();
+        if (version == savedVersion) {
+            skippedSaveCount++;
+            logger.info("Internship data unchanged, save skipped (" + saveCount + " saved, "
+                    + skippedSaveCount + " skipped)");
+            return commandResult;
+        }
+
+        saveCount++;
+        logger.info("Saving internship data (" + saveCount + " saved, " + skippedSaveCount + " skipped)");
+        if (writeBehindSaver != null) {
+            // Only recorded once written, so that the data is saved again after a failed write
+            writeBehindSaver.save(changes, () -> savedVersion = version);
+            return commandResult;
+        }
+
         try {
-            storage.saveInternshipData(model.getInternshipData());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveInternshipDataChanges(model.getInternshipData(), changes);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        savedVersion = version;
 
         return commandResult;
     }
 
+    /**
+     * Returns the number of commands after which the internship data was saved.
+     */
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the internship data had not changed
+     * since it was last saved.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    private void handleFailedWriteBehind(IOException ioe) {
+        saveErrorHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> errorHandler) {
+        requireNonNull(errorHandler);
+        saveErrorHandler = errorHandler;
+    }
+
+    @Override
+    public void setUiExecutor(Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+    }
+
+    @Override
+    public void awaitPendingCommands() {
+        CompletableFuture.runAsync(() -> { }, commandWorker).join();
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        awaitPendingCommands();
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
+    }
+
     @Override
     public ReadOnlyInternshipData getInternshipData() {
         return model.getInternshipData();
@@ -69,31 +310,107 @@ public class InternshipLogicManager implements InternshipLogic {
 
     @Override
     public ObservableList<Internship> getFilteredInternshipList() {
-        return model.getFilteredInternshipList();
+        return publishedInternships;
     }
 
     @Override
     public void setSelectedInternship(Internship internship) {
-        model.setSelectedInternship(internship);
+        commandWorker.execute(() -> {
+            model.setSelectedInternship(internship);
+            schedulePublication(() -> { });
+        });
     }
 
     @Override
     public ObservableList<Internship> getSelectedInternship() {
-        return model.getSelectedInternship();
+        return publishedSelectedInternship;
+    }
+
+    /**
+     * Returns what {@code query} reads from the model on the worker thread, after every command given before.
+     */
+    private <T> T queryOnWorker(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, commandWorker).join();
     }
 
     @Override
     public Path getInternshipDataFilePath() {
-        return model.getInternshipDataFilePath();
+        return queryOnWorker(model::getInternshipDataFilePath);
     }
 
     @Override
     public GuiSettings getGuiSettings() {
-        return model.getGuiSettings();
+        return queryOnWorker(model::getGuiSettings);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The GUI settings are set on the worker thread after every command given before.
+     */
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
+        requireNonNull(guiSettings);
+        commandWorker.execute(() -> model.setGuiSettings(guiSettings));
+    }
+
+    /**
+     * The result of a command, or the exception it failed with.
+     */
+    private static class CommandOutcome {
+        private final CommandResult commandResult;
+        private final Exception exception;
+
+        CommandOutcome(CommandResult commandResult, Exception exception) {
+            this.commandResult = commandResult;
+            this.exception = exception;
+        }
+
+        CommandResult getResult() throws CommandException, ParseException {
+            if (exception instanceof CommandException) {
+                throw (CommandException) exception;
+            } else if (exception instanceof ParseException) {
+                throw (ParseException) exception;
+            } else if (exception != null) {
+                throw (RuntimeException) exception;
+            }
+            return commandResult;
+        }
+
+        void complete(CompletableFuture<CommandResult> future) {
+            if (exception != null) {
+                future.completeExceptionally(exception);
+            } else {
+                future.complete(commandResult);
+            }
+        }
+    }
+
+    /**
+     * The changes to the lists of the model made by one or more commands, to be shown to the UI together.
+     */
+    private class Publication implements Runnable {
+        private final PublishedList.Changes<Internship> internshipChanges;
+        private final PublishedList.Changes<Internship> selectedInternshipChanges;
+
+        Publication(PublishedList.Changes<Internship> internshipChanges,
+                PublishedList.Changes<Internship> selectedInternshipChanges) {
+            this.internshipChanges = internshipChanges;
+            this.selectedInternshipChanges = selectedInternshipChanges;
+        }
+
+        /**
+         * Appends the changes of the {@code later} publication to this one.
+         */
+        void append(Publication later) {
+            internshipChanges.append(later.internshipChanges);
+            selectedInternshipChanges.append(later.selectedInternshipChanges);
+        }
+
+        @Override
+        public void run() {
+            publishedInternships.publish(internshipChanges);
+            publishedSelectedInternship.publish(selectedInternshipChanges);
+        }
     }
 }
@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable observable list that follows another list, such that listeners see the changes to that list only
+ * when, and on the thread where, they are published.
+ *
+ * The changes to the followed list are recorded as they are made, on the thread that makes them, and taken from time
+ * to time as a batch with {@link #takeChanges()}. Publishing a batch applies its changes to this list in the order
+ * they were made, in a single change, so that recording and publishing each take time in the size of the changes
+ * rather than the size of the list.
+ *
+ * @param <E> the type of the elements
+ */
+class PublishedList<E> extends ObservableListBase<E> {
+
+    private final List<E> elements;
+    // The changes made to the followed list since they were last taken; thread that changes the followed list only
+    private List<Edit<E>> recordedEdits = new ArrayList<>();
+
+    /**
+     * Creates a list showing the elements of {@code source}, which it then follows.
+     */
+    PublishedList(ObservableList<E> source) {
+        elements = new ArrayList<>(source);
+        source.addListener((ListChangeListener<E>) this::record);
+    }
+
+    private void record(ListChangeListener.Change<? extends E> c) {
+        while (c.next()) {
+            if (c.wasPermutated() || c.wasUpdated()) {
+                int size = c.getTo() - c.getFrom();
+                recordedEdits.add(new Edit<>(c.getFrom(), size, c.getList().subList(c.getFrom(), c.getTo())));
+            } else {
+                recordedEdits.add(new Edit<>(c.getFrom(), c.getRemovedSize(), c.getAddedSubList()));
+            }
+        }
+    }
+
+    /**
+     * Returns the changes made to the followed list since they were last taken, to be published later.
+     * Must be called on the thread that changes the followed list.
+     */
+    Changes<E> takeChanges() {
+        Changes<E> changes = new Changes<>(recordedEdits);
+        recordedEdits = new ArrayList<>();
+        return changes;
+    }
+
+    /**
+     * Applies {@code changes} to this list. Every batch of changes taken from this list must be published exactly
+     * once, in the order the batches were taken.
+     */
+    synchronized void publish(Changes<E> changes) {
+        requireNonNull(changes);
+        if (changes.edits.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        for (Edit<E> edit : changes.edits) {
+            if (edit.removedSize > 0) {
+                List<E> removedRange = elements.subList(edit.from, edit.from + edit.removedSize);
+                List<E> removed = new ArrayList<>(removedRange);
+                removedRange.clear();
+                nextRemove(edit.from, removed);
+            }
+            if (!edit.added.isEmpty()) {
+                elements.addAll(edit.from, edit.added);
+                nextAdd(edit.from, edit.from + edit.added.size());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public synchronized E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        return elements.size();
+    }
+
+    /**
+     * The changes made to a followed list over some time, in the order they were made.
+     */
+    static class Changes<E> {
+        private final List<Edit<E>> edits;
+
+        private Changes(List<Edit<E>> edits) {
+            this.edits = edits;
+        }
+
+        /**
+         * Appends the {@code later} changes to these changes.
+         */
+        void append(Changes<E> later) {
+            edits.addAll(later.edits);
+        }
+    }
+
+    /**
+     * A change that removes {@code removedSize} elements at {@code from}, and then inserts {@code added} there.
+     */
+    private static class Edit<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+
+        Edit(int from, int removedSize, List<? extends E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = List.copyOf(added);
+        }
+    }
+}
@@ -101,7 +101,8 @@ public class InternshipAddTaskCommand extends InternshipCommand {
         TaskList newTaskList = internshipToAddTask.getTaskList().copy();
         newTaskList.addTask(task);
 
-        return new Internship(internshipToAddTask.getCompanyName(), internshipToAddTask.getContactName(),
+        return new Internship(internshipToAddTask.getId(),
+                internshipToAddTask.getCompanyName(), internshipToAddTask.getContactName(),
                 internshipToAddTask.getContactEmail(), internshipToAddTask.getContactNumber(),
                 internshipToAddTask.getLocation(), internshipToAddTask.getApplicationStatus(),
                 internshipToAddTask.getDescription(), internshipToAddTask.getRole(),
@@ -1,10 +1,9 @@
 package seedu.address.logic.commands;
 
-import java.util.Comparator;
 import java.util.Map;
 
 import seedu.address.model.internship.ApplicationStatus.StatusEnum;
-import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipSortKey;
 
 /**
  * Contains utility methods for sorting internships.
@@ -17,32 +16,30 @@ public class InternshipComparators {
             StatusEnum.ACCEPTED, 3,
             StatusEnum.REJECTED, 4
     );
+    private static final int[] statusRanks = new int[StatusEnum.values().length];
+
+    static {
+        for (StatusEnum status : StatusEnum.values()) {
+            statusRanks[status.ordinal()] = statusOrder.getOrDefault(status, Integer.MAX_VALUE);
+        }
+    }
 
     /**
      * Returns a comparator that compares two internships based on the application status.
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the application status.
      */
-    public static Comparator<Internship> byApplicationStatus(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship ->
-                statusOrder.getOrDefault(internship.getApplicationStatus().getStatus(), Integer.MAX_VALUE));
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byApplicationStatus(boolean isAscending) {
+        return InternshipSortKey.byInt(internship ->
+                statusRanks[internship.getApplicationStatus().getStatus().ordinal()], isAscending);
     }
     /**
      * Returns a comparator that compares two internships based on the company name.
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the company name.
      */
-    public static Comparator<Internship> byCompanyName(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getCompanyName().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byCompanyName(boolean isAscending) {
+        return InternshipSortKey.byText(internship -> internship.getCompanyName().toString(), isAscending);
     }
 
     /**
@@ -50,13 +47,8 @@ public class InternshipComparators {
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the description.
      */
-    public static Comparator<Internship> byDescription(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getDescription().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byDescription(boolean isAscending) {
+        return InternshipSortKey.byText(internship -> internship.getDescription().toString(), isAscending);
     }
 
     /**
@@ -64,13 +56,8 @@ public class InternshipComparators {
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the role.
      */
-    public static Comparator<Internship> byRole(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getRole().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byRole(boolean isAscending) {
+        return InternshipSortKey.byText(internship -> internship.getRole().toString(), isAscending);
     }
 
     /**
@@ -78,13 +65,8 @@ public class InternshipComparators {
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the contact name.
      */
-    public static Comparator<Internship> byContactName(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getContactName().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byContactName(boolean isAscending) {
+        return InternshipSortKey.byText(internship -> internship.getContactName().toString(), isAscending);
     }
 
     /**
@@ -92,27 +74,17 @@ public class InternshipComparators {
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the contact email.
      */
-    public static Comparator<Internship> byContactEmail(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getContactEmail().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byContactEmail(boolean isAscending) {
+        return InternshipSortKey.byText(internship -> internship.getContactEmail().toString(), isAscending);
     }
 
     /**
-     * Returns a comparator that compares two internships based on the contact number.
+     * Returns a comparator that compares two internships based on the contact number, as a number.
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the contact number.
      */
-    public static Comparator<Internship> byPhone(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getContactNumber().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byPhone(boolean isAscending) {
+        return InternshipSortKey.byNumber(internship -> internship.getContactNumber().toString(), isAscending);
     }
 
     /**
@@ -120,13 +92,8 @@ public class InternshipComparators {
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the remark.
      */
-    public static Comparator<Internship> byRemark(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getRemark().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byRemark(boolean isAscending) {
+        return InternshipSortKey.byText(internship -> internship.getRemark().toString(), isAscending);
     }
 
     /**
@@ -134,12 +101,7 @@ public class InternshipComparators {
      * @param isAscending Whether to sort in ascending order.
      * @return A comparator that compares two internships based on the location.
      */
-    public static Comparator<Internship> byLocation(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getLocation().toString(),
-                String.CASE_INSENSITIVE_ORDER);
-        if (!isAscending) {
-            comparator = comparator.reversed();
-        }
-        return comparator;
+    public static InternshipSortKey byLocation(boolean isAscending) {
+        return InternshipSortKey.byText(internship -> internship.getLocation().toString(), isAscending);
     }
 }
@@ -13,6 +13,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Task;
+import seedu.address.model.internship.TaskList;
 
 /**
  * Deletes an existing task from an existing Internship
@@ -58,16 +59,35 @@ public class InternshipDeleteTaskCommand extends InternshipCommand {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
         Task taskToDelete = internshipToDeleteTask.getTaskList().getTask(taskIndex.getZeroBased());
-        internshipToDeleteTask.getTaskList().deleteTask(taskIndex.getZeroBased());
+        Internship internshipWithoutTask = createInternshipWithoutTask(internshipToDeleteTask,
+                taskIndex.getZeroBased());
 
-        // This is necessary to trigger the UI to update
-        model.setInternship(internshipToDeleteTask, internshipToDeleteTask);
+        model.setInternship(internshipToDeleteTask, internshipWithoutTask);
 
         model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
 
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
     }
 
+    /**
+     * Creates and returns an {@code Internship} with the details of {@code internshipToDeleteTask}, without the
+     * task at {@code taskIndex}.
+     * Internships are not changed in place, as they may still be referenced by a snapshot being saved.
+     */
+    private static Internship createInternshipWithoutTask(Internship internshipToDeleteTask, int taskIndex) {
+        assert internshipToDeleteTask != null;
+        TaskList newTaskList = internshipToDeleteTask.getTaskList().copy();
+        newTaskList.deleteTask(taskIndex);
+
+        return new Internship(internshipToDeleteTask.getId(),
+                internshipToDeleteTask.getCompanyName(), internshipToDeleteTask.getContactName(),
+                internshipToDeleteTask.getContactEmail(), internshipToDeleteTask.getContactNumber(),
+                internshipToDeleteTask.getLocation(), internshipToDeleteTask.getApplicationStatus(),
+                internshipToDeleteTask.getDescription(), internshipToDeleteTask.getRole(),
+                internshipToDeleteTask.getRemark(),
+                newTaskList);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -82,31 +82,22 @@ public class InternshipEditCommand extends InternshipCommand {
     public CommandResult execute(InternshipModel model) throws CommandException {
         requireNonNull(model);
         List<Internship> lastShownList = model.getFilteredInternshipList();
-        // This is the internship being displayed by the UI.
-        Internship currentSelectedInternship = model.getSelectedInternship().get(0);
 
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX);
         }
 
         Internship internshipToEdit = lastShownList.get(index.getZeroBased());
-
-        boolean isCurrentSelectedInternshipBeingEdited = currentSelectedInternship.equals(internshipToEdit);
-
         Internship editedInternship = createEditedInternship(internshipToEdit, editInternshipDescriptor);
 
         if (!internshipToEdit.isSameInternship(editedInternship) && model.hasInternship(editedInternship)) {
             throw new CommandException(MESSAGE_DUPLICATE_INTERNSHIP);
         }
 
+        // The edited internship keeps its id, so the model keeps it selected if it was
         model.setInternship(internshipToEdit, editedInternship);
         model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
 
-        if (isCurrentSelectedInternshipBeingEdited) {
-            // This maintains the selected internship across the edit.
-            model.setSelectedInternship(editedInternship);
-        }
-
         return new CommandResult(String.format(MESSAGE_EDIT_INTERNSHIP_SUCCESS,
                 InternshipMessages.format(editedInternship)));
     }
@@ -138,8 +129,9 @@ public class InternshipEditCommand extends InternshipCommand {
         Remark updatedRemark = editInternshipDescriptor.getRemark().orElse(internshipToEdit.getRemark());
         // edit command cannot be used to edit task list
         TaskList taskList = editInternshipDescriptor.getTaskList().orElse(internshipToEdit.getTaskList());
-        return new Internship(updatedCompanyName, updatedContactName, updatedContactEmail, updatedContactNumber,
-                updatedLocation, updatedApplicationStatus, updatedDescription, updatedRole, updatedRemark, taskList);
+        return new Internship(internshipToEdit.getId(), updatedCompanyName, updatedContactName, updatedContactEmail,
+                updatedContactNumber, updatedLocation, updatedApplicationStatus, updatedDescription, updatedRole,
+                updatedRemark, taskList);
     }
 
     @Override
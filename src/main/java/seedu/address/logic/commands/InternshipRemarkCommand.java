@@ -54,7 +54,7 @@ public class InternshipRemarkCommand extends InternshipCommand {
         }
 
         Internship internshipToEdit = lastShownList.get(index.getZeroBased());
-        Internship editedInternship = new Internship(
+        Internship editedInternship = new Internship(internshipToEdit.getId(),
                 internshipToEdit.getCompanyName(), internshipToEdit.getContactName(),
                 internshipToEdit.getContactEmail(), internshipToEdit.getContactNumber(),
                 internshipToEdit.getLocation(), internshipToEdit.getApplicationStatus(),
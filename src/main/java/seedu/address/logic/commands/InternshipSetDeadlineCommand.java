@@ -14,6 +14,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.internship.Deadline;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Task;
+import seedu.address.model.internship.TaskList;
 
 /**
  * Adds a deadline to a task in an internship, or replaces the deadline if there already is one.
@@ -65,10 +67,10 @@ public class InternshipSetDeadlineCommand extends InternshipCommand {
         if (taskIndex.getOneBased() > internshipToSetDeadline.getTaskList().getTaskListSize()) {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
-        internshipToSetDeadline.getTaskList().getTask(taskIndex.getZeroBased()).setDeadline(deadline);
+        Internship internshipWithDeadline = createInternshipWithDeadline(internshipToSetDeadline,
+                taskIndex.getZeroBased(), deadline);
 
-        // This is necessary to trigger the UI to update the displayed deadline
-        model.setInternship(internshipToSetDeadline, internshipToSetDeadline);
+        model.setInternship(internshipToSetDeadline, internshipWithDeadline);
 
         model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
 
@@ -76,6 +78,26 @@ public class InternshipSetDeadlineCommand extends InternshipCommand {
                 deadline));
     }
 
+    /**
+     * Creates and returns an {@code Internship} with the details of {@code internshipToSetDeadline}, where the task
+     * at {@code taskIndex} is due on {@code deadline}.
+     * Internships are not changed in place, as they may still be referenced by a snapshot being saved.
+     */
+    private static Internship createInternshipWithDeadline(Internship internshipToSetDeadline, int taskIndex,
+            Deadline deadline) {
+        assert internshipToSetDeadline != null;
+        TaskList newTaskList = internshipToSetDeadline.getTaskList().copy();
+        newTaskList.setTask(taskIndex, new Task(newTaskList.getTask(taskIndex).task, deadline.deadline));
+
+        return new Internship(internshipToSetDeadline.getId(),
+                internshipToSetDeadline.getCompanyName(), internshipToSetDeadline.getContactName(),
+                internshipToSetDeadline.getContactEmail(), internshipToSetDeadline.getContactNumber(),
+                internshipToSetDeadline.getLocation(), internshipToSetDeadline.getApplicationStatus(),
+                internshipToSetDeadline.getDescription(), internshipToSetDeadline.getRole(),
+                internshipToSetDeadline.getRemark(),
+                newTaskList);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
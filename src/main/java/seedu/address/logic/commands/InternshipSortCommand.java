@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
@@ -11,16 +13,19 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.InternshipMessages;
 import seedu.address.logic.parser.InternshipSortCommandParser;
 import seedu.address.model.InternshipModel;
-import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipSortKey;
 
 /**
- * Sorts all internships in the Internship Data based on specified field and displays them as a list with index numbers.
+ * Sorts all internships in the Internship Data based on specified fields and displays them as a list with index
+ * numbers.
  */
 public class InternshipSortCommand extends InternshipCommand {
 
@@ -28,9 +33,10 @@ public class InternshipSortCommand extends InternshipCommand {
     public static final String ORDER_ASCENDING = "asc";
     public static final String ORDER_DESCENDING = "desc";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all internships based on specified field"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all internships based on specified fields"
             + " (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: FIELD ORDER \n"
+            + "Parameters: FIELD ORDER [FIELD ORDER]... \n"
+            + "Internships that are equal in a field are sorted by the next field.\n"
             + "FIELD: One of the following field \n"
             + PREFIX_COMPANY + ": Company Name\n"
             + PREFIX_CONTACT_NAME + ": Contact Name\n"
@@ -42,7 +48,9 @@ public class InternshipSortCommand extends InternshipCommand {
             + PREFIX_ROLE + ": Role\n"
             + PREFIX_REMARK + ": Remark\n"
             + "ORDER: " + ORDER_ASCENDING + " or " + ORDER_DESCENDING + ", to specify ascending or descending order\n"
-            + "Example: " + COMMAND_WORD + " /com " + ORDER_ASCENDING + "\n";
+            + "Example: " + COMMAND_WORD + " /com " + ORDER_ASCENDING + "\n"
+            + "Example: " + COMMAND_WORD + " /status " + ORDER_ASCENDING + " /com " + ORDER_ASCENDING + " /role "
+            + ORDER_DESCENDING + "\n";
     public static final String MESSAGE_INVALID_FIELD = "Invalid field specified. Please specify one of the following:\n"
             + PREFIX_COMPANY + ": Company Name\n"
             + PREFIX_CONTACT_NAME + ": Contact Name\n"
@@ -71,39 +79,59 @@ public class InternshipSortCommand extends InternshipCommand {
 
     public static final String MESSAGE_NO_ORDER = "Please specify the order to sort by: "
             + ORDER_ASCENDING + " to sort in ascending order or " + ORDER_DESCENDING + " to sort in descending order.";
-    public static final String MESSAGE_EXTRA_ARGUMENTS = "Extra arguments detected. Please only specify one "
-            + "field and one order.\n"
+    public static final String MESSAGE_EXTRA_ARGUMENTS = "Extra arguments detected. Please specify each "
+            + "field followed by one order.\n"
             + "Example: " + COMMAND_WORD + " /com " + ORDER_ASCENDING + "\n";
-    private final InternshipSortCommandParser.FieldEnum field;
-    private final InternshipSortCommandParser.OrderEnum order;
+    private final List<InternshipSortCommandParser.FieldEnum> fields;
+    private final List<InternshipSortCommandParser.OrderEnum> orders;
 
     /**
      * Creates an InternshipSortCommand to sort internships based on the specified field and order.
      */
     public InternshipSortCommand(InternshipSortCommandParser.FieldEnum field,
                                  InternshipSortCommandParser.OrderEnum order) {
-        requireNonNull(field);
-        requireNonNull(order);
-        this.field = field;
-        this.order = order;
+        this(List.of(requireNonNull(field)), List.of(requireNonNull(order)));
+    }
+
+    /**
+     * Creates an InternshipSortCommand to sort internships based on the specified fields, each in the order at the
+     * same position in {@code orders}. Internships that are equal in a field are sorted by the next field.
+     */
+    public InternshipSortCommand(List<InternshipSortCommandParser.FieldEnum> fields,
+                                 List<InternshipSortCommandParser.OrderEnum> orders) {
+        requireAllNonNull(fields, orders);
+        checkArgument(!fields.isEmpty() && fields.size() == orders.size(),
+                "Every field to sort by needs exactly one order.");
+        this.fields = List.copyOf(fields);
+        this.orders = List.copyOf(orders);
     }
 
     @Override
     public CommandResult execute(InternshipModel model) {
         requireNonNull(model);
-        Comparator<Internship> comparator;
-
-        if (order == InternshipSortCommandParser.OrderEnum.DESCENDING) {
-            comparator = InternshipSortCommandParser.getComparator(field, false);
-        } else {
-            comparator = InternshipSortCommandParser.getComparator(field, true);
+        List<InternshipSortKey> sortKeys = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            boolean isAscending = orders.get(i) != InternshipSortCommandParser.OrderEnum.DESCENDING;
+            sortKeys.add(InternshipSortCommandParser.getComparator(fields.get(i), isAscending));
         }
-        model.sortFilteredInternshipList(comparator);
+        model.sortFilteredInternshipList(InternshipSortKey.compound(sortKeys));
+        model.setInternshipSortSpec(getSortSpec());
         return new CommandResult(
                 String.format(InternshipMessages.MESSAGE_INTERNSHIPS_LISTED_OVERVIEW,
                         model.getFilteredInternshipList().size()));
     }
 
+    /**
+     * Returns the arguments of this command, from which {@code InternshipSortCommandParser} parses an equal command.
+     */
+    public String getSortSpec() {
+        StringJoiner sortSpec = new StringJoiner(" ");
+        for (int i = 0; i < fields.size(); i++) {
+            sortSpec.add(fields.get(i).getValue()).add(orders.get(i).getValue());
+        }
+        return sortSpec.toString();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -115,23 +143,36 @@ public class InternshipSortCommand extends InternshipCommand {
         }
 
         InternshipSortCommand otherCommand = (InternshipSortCommand) other;
-        return this.field.equals(otherCommand.getField()) && this.order.equals(otherCommand.getOrder());
+        return this.fields.equals(otherCommand.fields) && this.orders.equals(otherCommand.orders);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("field", field)
-                .add("order", order)
+                .add("fields", fields)
+                .add("orders", orders)
                 .toString();
     }
 
+    /**
+     * Returns the first field to sort by.
+     */
     public InternshipSortCommandParser.FieldEnum getField() {
-        return field;
+        return fields.get(0);
     }
 
+    /**
+     * Returns the order of the first field to sort by.
+     */
     public InternshipSortCommandParser.OrderEnum getOrder() {
-        return order;
+        return orders.get(0);
+    }
+
+    public List<InternshipSortCommandParser.FieldEnum> getFields() {
+        return fields;
     }
-}
 
+    public List<InternshipSortCommandParser.OrderEnum> getOrders() {
+        return orders;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.InternshipMessages.getErrorMessageForDuplicatePrefixes;
 import static seedu.address.logic.commands.InternshipSortCommand.MESSAGE_EXTRA_ARGUMENTS;
 import static seedu.address.logic.commands.InternshipSortCommand.ORDER_ASCENDING;
 import static seedu.address.logic.commands.InternshipSortCommand.ORDER_DESCENDING;
@@ -15,15 +16,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
-import java.util.Comparator;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.InternshipComparators;
 import seedu.address.logic.commands.InternshipSortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipSortKey;
 
 /**
  * Parses input arguments and creates a new InternshipSortCommand object
@@ -117,88 +118,59 @@ public class InternshipSortCommandParser implements InternshipParser<InternshipS
     /**
      * Parses the given {@code String} of arguments in the context of the InternshipSortCommand
      * and returns an InternshipSortCommand object for execution.
+     * The arguments are one or more pairs of a field and an order, where each field after the first one is only
+     * used to order internships that are equal in all the fields before it.
      * @throws ParseException if the user input does not conform the expected format
      */
     public InternshipSortCommand parse(String args) throws ParseException {
         requireNonNull(args);
         logger.info("Parsing internship sort command with args: " + args);
         String trimmedArgs = args.trim();
-        String[] splitArgs = trimmedArgs.split(" ");
         if (trimmedArgs.isEmpty()) {
             logger.warning("Internship sort command has no arguments");
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, InternshipSortCommand.MESSAGE_USAGE));
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, SUPPORTED_PREFIXES);
-        argMultimap.verifyNoDuplicatePrefixesFor(SUPPORTED_PREFIXES);
-
-        if (!validateOrder(argMultimap, SUPPORTED_PREFIXES)) {
-            logger.warning("Internship sort command has no valid prefixes or invalid order");
-            throw new ParseException(InternshipSortCommand.MESSAGE_INVALID_FIELD);
-        }
-        if (splitArgs.length != 2) {
-            logger.warning("Internship sort command has invalid number of arguments");
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_EXTRA_ARGUMENTS));
-        }
-
-        OrderEnum parsedOrder = assignOrder(argMultimap);
-        FieldEnum field = assignField(argMultimap);
-        try {
-            argMultimap.verifyNoExtraArguments(2);
-        } catch (IllegalArgumentException e) {
-            throw new ParseException(MESSAGE_EXTRA_ARGUMENTS);
-        }
-        return new InternshipSortCommand(field, parsedOrder);
-    }
-
-    /**
-     * Assigns the field to sort by based on the prefixes present in the {@code ArgumentMultimap}.
-     * @param argMultimap map of prefixes and their search keywords
-     * @return the field to sort by
-     */
-    protected FieldEnum assignField(ArgumentMultimap argMultimap) throws ParseException {
-        for (Prefix prefix : SUPPORTED_PREFIXES) {
-            if (argMultimap.getValue(prefix).isPresent()) {
-                String prefixString = prefix.getPrefix();
-                return FieldEnum.fromPrefixString(prefixString);
+        String[] splitArgs = trimmedArgs.split("\\s+");
+        List<FieldEnum> fields = new ArrayList<>();
+        List<OrderEnum> orders = new ArrayList<>();
+        for (int i = 0; i < splitArgs.length; i += 2) {
+            FieldEnum field = parseField(splitArgs[i], i == 0);
+            if (fields.contains(field)) {
+                logger.warning("Internship sort command has a duplicate field");
+                throw new ParseException(getErrorMessageForDuplicatePrefixes(new Prefix(field.getValue())));
             }
-        }
-        logger.warning("Internship sort command has no field entered");
-        throw new ParseException(InternshipSortCommand.MESSAGE_INVALID_FIELD);
-    }
-
-    protected OrderEnum assignOrder(ArgumentMultimap argMultimap) throws ParseException {
-        for (Prefix prefix : SUPPORTED_PREFIXES) {
-            if (argMultimap.getValue(prefix).isPresent()) {
-                String order = argMultimap.getValue(prefix).get();
-                return OrderEnum.getOrderEnum(order);
+            if (i + 1 == splitArgs.length) {
+                logger.warning("Internship sort command has no order entered for " + field);
+                throw new ParseException(InternshipSortCommand.MESSAGE_NO_ORDER);
             }
+            fields.add(field);
+            orders.add(InternshipParserUtil.parseOrder(splitArgs[i + 1]));
         }
-        logger.warning("Internship sort command has no field entered");
-        throw new ParseException(InternshipSortCommand.MESSAGE_NO_ORDER);
+        return new InternshipSortCommand(fields, orders);
     }
 
     /**
-     * Returns true if the given {@code ArgumentMultimap} contains a valid order.
-     * @param argumentMultimap map of prefixes and their search keywords
-     * @param prefixes prefixes to check for
-     * @return true if the given {@code ArgumentMultimap} contains a valid order
+     * Parses {@code fieldArg} into the field to sort by.
+     * @param fieldArg argument expected to be the prefix of a field
+     * @param isFirstField whether {@code fieldArg} is the first argument
+     * @return the field to sort by
      */
-    private static boolean validateOrder(ArgumentMultimap argumentMultimap, Prefix... prefixes)
-            throws ParseException {
-        for (Prefix prefix : prefixes) {
-            Optional<String> value = argumentMultimap.getValue(prefix);
-            if (value.isPresent() && OrderEnum.isValidOrder(value.get())) {
-                return true;
+    private static FieldEnum parseField(String fieldArg, boolean isFirstField) throws ParseException {
+        for (FieldEnum field : FieldEnum.values()) {
+            if (field.getValue().equals(fieldArg)) {
+                return field;
             }
         }
-        return false;
+        logger.warning("Internship sort command has an invalid field: " + fieldArg);
+        throw new ParseException(isFirstField
+                ? InternshipSortCommand.MESSAGE_INVALID_FIELD
+                : MESSAGE_EXTRA_ARGUMENTS);
     }
 
-    public static Comparator<Internship> getComparator(InternshipSortCommandParser.FieldEnum field,
-                                                       boolean isAscending) {
+    public static InternshipSortKey getComparator(InternshipSortCommandParser.FieldEnum field,
+                                                  boolean isAscending) {
         switch (field) {
         case COMPANY:
             return InternshipComparators.byCompanyName(isAscending);
@@ -0,0 +1,246 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A set of elements kept in the order of a comparator, which can find both the position of an element and the element
+ * at a position. Elements that the comparator considers equal are the same element.
+ *
+ * The elements are kept in a balanced (AVL) tree in which every node knows the size of its subtree, so adding,
+ * removing and finding an element, and finding the element at a position, each take O(log n) comparisons.
+ *
+ * @param <E> the type of the elements
+ */
+class IndexedTreeSet<E> {
+
+    private final Comparator<? super E> comparator;
+    private Node<E> root;
+
+    /**
+     * Creates an empty set ordered by {@code comparator}.
+     */
+    public IndexedTreeSet(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Replaces the elements of the set with {@code elements}, which must all be different.
+     */
+    public void setAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        List<E> sortedElements = new ArrayList<>(elements);
+        sortedElements.sort(comparator);
+        setAllSorted(sortedElements);
+    }
+
+    /**
+     * Replaces the elements of the set with {@code sortedElements}, which must all be different and already be in
+     * the order of the comparator, without sorting them again.
+     */
+    public void setAllSorted(List<? extends E> sortedElements) {
+        requireNonNull(sortedElements);
+        List<E> elements = new ArrayList<>(sortedElements);
+        for (int i = 1; i < elements.size(); i++) {
+            checkArgument(comparator.compare(elements.get(i - 1), elements.get(i)) < 0,
+                    "Elements must all be different and in order.");
+        }
+        root = build(elements, 0, elements.size());
+    }
+
+    /**
+     * Similar to {@link #setAllSorted(List)}, but trusts {@code sortedElements} to be in order instead of checking
+     * them with the comparator, for callers that have just sorted them in that order by other means.
+     */
+    void setAllSortedUnchecked(List<? extends E> sortedElements) {
+        requireNonNull(sortedElements);
+        root = build(sortedElements, 0, sortedElements.size());
+    }
+
+    /**
+     * Adds {@code element}, which must not be in the set yet, and returns its position.
+     */
+    public int add(E element) {
+        requireNonNull(element);
+        root = insert(root, element);
+        return indexOf(element);
+    }
+
+    /**
+     * Removes {@code element}, and returns the position it was at, or -1 if it is not in the set.
+     */
+    public int remove(E element) {
+        requireNonNull(element);
+        int index = indexOf(element);
+        if (index >= 0) {
+            root = delete(root, element);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of {@code element}, or -1 if it is not in the set.
+     */
+    public int indexOf(E element) {
+        requireNonNull(element);
+        int index = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(element, node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the set.
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the height of the tree the elements are kept in, which is at most about 1.44 log2(n + 2).
+     */
+    int getHeight() {
+        return height(root);
+    }
+
+    private static <E> int size(Node<E> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <E> int height(Node<E> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <E> Node<E> build(List<? extends E> sortedElements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<E> node = new Node<>(sortedElements.get(middle));
+        node.left = build(sortedElements, from, middle);
+        node.right = build(sortedElements, middle + 1, to);
+        return node.update();
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        int comparison = comparator.compare(element, node.element);
+        checkArgument(comparison != 0, "Element is already in the set.");
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else {
+            node.right = insert(node.right, element);
+        }
+        return rebalance(node.update());
+    }
+
+    private Node<E> delete(Node<E> node, E element) {
+        int comparison = comparator.compare(element, node.element);
+        if (comparison < 0) {
+            node.left = delete(node.left, element);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, element);
+        } else if (node.left == null || node.right == null) {
+            return node.left == null ? node.right : node.left;
+        } else {
+            // replace the element with the next one, which is the leftmost element on the right
+            Node<E> next = node.right;
+            while (next.left != null) {
+                next = next.left;
+            }
+            node.element = next.element;
+            node.right = delete(node.right, next.element);
+        }
+        return rebalance(node.update());
+    }
+
+    private static <E> Node<E> rebalance(Node<E> node) {
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        left.right = node.update();
+        return left.update();
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        right.left = node.update();
+        return right.update();
+    }
+
+    private static class Node<E> {
+        private E element;
+        private Node<E> left;
+        private Node<E> right;
+        private int height = 1;
+        private int size = 1;
+
+        Node(E element) {
+            this.element = element;
+        }
+
+        /**
+         * Recomputes the height and size of this node from its children, and returns this node.
+         */
+        Node<E> update() {
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+            return this;
+        }
+    }
+}
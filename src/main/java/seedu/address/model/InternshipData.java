@@ -3,10 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
+import seedu.address.model.internship.InternshipKeywordIndex;
 import seedu.address.model.internship.UniqueInternshipList;
 
 /**
@@ -16,6 +19,7 @@ import seedu.address.model.internship.UniqueInternshipList;
 public class InternshipData implements ReadOnlyInternshipData {
 
     private final UniqueInternshipList internshipList;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,6 +40,8 @@ public class InternshipData implements ReadOnlyInternshipData {
     public InternshipData(ReadOnlyInternshipData toBeCopied) {
         this();
         resetData(toBeCopied);
+        // the internships it starts with are not a change to it
+        takeChanges();
     }
 
     /**
@@ -44,6 +50,7 @@ public class InternshipData implements ReadOnlyInternshipData {
      */
     public void setInternships(List<Internship> internships) {
         this.internshipList.setInternships(internships);
+        version++;
     }
 
     /**
@@ -62,12 +69,20 @@ public class InternshipData implements ReadOnlyInternshipData {
         return internshipList.contains(internship);
     }
 
+    /**
+     * Returns the internship with the given {@code id} in the internship data, if any.
+     */
+    public Optional<Internship> getInternshipById(int id) {
+        return internshipList.getById(id);
+    }
+
     /**
      * Adds a internship to the internship data.
      * The internship must not already exist in the internship data.
      */
     public void addInternship(Internship i) {
         internshipList.add(i);
+        version++;
     }
 
     /**
@@ -80,6 +95,7 @@ public class InternshipData implements ReadOnlyInternshipData {
         requireNonNull(editedInternship);
 
         internshipList.setInternship(target, editedInternship);
+        version++;
     }
 
     /**
@@ -88,6 +104,31 @@ public class InternshipData implements ReadOnlyInternshipData {
      */
     public void removeInternship(Internship key) {
         internshipList.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the index of the words in the searchable fields of the internships, which is kept up to date as the
+     * internships change.
+     */
+    public InternshipKeywordIndex getKeywordIndex() {
+        return internshipList.getKeywordIndex();
+    }
+
+    /**
+     * Returns the changes made to the internships since they were last taken, or since this {@code InternshipData}
+     * was created.
+     */
+    public InternshipChanges takeChanges() {
+        return internshipList.takeChanges();
+    }
+
+    /**
+     * Returns the number of times the internships in this {@code InternshipData} have been changed.
+     * The version is not part of the data: two {@code InternshipData}s with different versions can still be equal.
+     */
+    public long getVersion() {
+        return version;
     }
 
     @Override
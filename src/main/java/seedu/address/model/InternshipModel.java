@@ -6,7 +6,10 @@ import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
+import seedu.address.model.internship.Location.LocationEnum;
 
 /**
  * The API of the InternshipModel component.
@@ -45,6 +48,16 @@ public interface InternshipModel {
      */
     void setInternshipDataFilePath(Path internshipDataFilePath);
 
+    /**
+     * Returns the arguments of the sort command that the internship list was last sorted with.
+     */
+    String getInternshipSortSpec();
+
+    /**
+     * Sets the user prefs' arguments of the sort command that the internship list was last sorted with.
+     */
+    void setInternshipSortSpec(String internshipSortSpec);
+
     /**
      * Replaces current internship data with the internship data in {@code internshipData}.
      */
@@ -53,6 +66,26 @@ public interface InternshipModel {
     /** Returns the InternshipData */
     ReadOnlyInternshipData getInternshipData();
 
+    /**
+     * Returns a number that changes whenever the internship data changes, and only then.
+     */
+    long getInternshipDataVersion();
+
+    /**
+     * Returns the changes made to the internship data since they were last taken.
+     */
+    InternshipChanges takeInternshipDataChanges();
+
+    /**
+     * Returns the number of internships with the given {@code status}, without going through the internships.
+     */
+    int getInternshipCount(StatusEnum status);
+
+    /**
+     * Returns the number of internships at the given {@code location}, without going through the internships.
+     */
+    int getInternshipCount(LocationEnum location);
+
     /**
      * Returns true if an internship with the same identity as {@code internship} exists in the internship list.
      */
@@ -93,12 +126,13 @@ public interface InternshipModel {
     /**
      * Sets the selected {@code internship} in the model selected internship.
      * This represents the internship that the user is currently viewing in the detailed internship window.
+     * The selection follows the internship as it is edited, and is cleared when it is deleted.
      */
     void setSelectedInternship(Internship internship);
 
     /**
      * Gets the model's selected internship, which represents the internship that the user is currently viewing in the
-     * detailed internship window.
+     * detailed internship window, as a list of at most one internship. The list is empty if none is selected.
      */
     ObservableList<Internship> getSelectedInternship();
 }
@@ -4,16 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+import seedu.address.model.internship.InternshipKeywordIndex;
+import seedu.address.model.internship.Location.LocationEnum;
+import seedu.address.model.util.InternshipFilterUtil;
 
 /**
  * Represents the in-memory model of the Internship data.
@@ -24,11 +33,16 @@ public class InternshipModelManager implements InternshipModel {
     private final InternshipData internshipData;
     private final InternshipUserPrefs userPrefs;
     private FilteredList<Internship> filteredInternships;
-    private SortedList<Internship> sortedInternships;
+    private OrderedInternshipList orderedInternships;
+    // The keyword search the filtered list currently shows the results of, if any
+    private InternshipContainsKeywordsPredicate currentKeywordsPredicate;
+    private final SearchResultCache searchResultCache = new SearchResultCache(SearchResultCache.DEFAULT_CAPACITY);
 
-    // The internship that is currently selected. Even though it is a list, it should only ever show one internship.
-    // It is set as a FilteredList, so it can work with the existing UI components.
-    private FilteredList<Internship> selectedInternship;
+    // The internship that is currently selected, if any, as a list of at most one internship so that it can work
+    // with the existing UI components. It follows the selected internship across edits by its id.
+    private final ObservableList<Internship> selectedInternship = FXCollections.observableArrayList();
+    private final ObservableList<Internship> unmodifiableSelectedInternship =
+            FXCollections.unmodifiableObservableList(selectedInternship);
 
     /**
      * Initializes a InternshipModelManager with the given internshipData and userPrefs.
@@ -41,8 +55,9 @@ public class InternshipModelManager implements InternshipModel {
         this.internshipData = new InternshipData(internshipData);
         this.userPrefs = new InternshipUserPrefs(userPrefs);
         filteredInternships = new FilteredList<>(this.internshipData.getInternshipList());
-        sortedInternships = new SortedList<>(filteredInternships);
-        selectedInternship = new FilteredList<>(this.internshipData.getInternshipList());
+        orderedInternships = new OrderedInternshipList(filteredInternships);
+        this.internshipData.getInternshipList().addListener((ListChangeListener<Internship>) change ->
+                followSelectedInternship());
     }
 
     public InternshipModelManager() {
@@ -82,6 +97,17 @@ public class InternshipModelManager implements InternshipModel {
         userPrefs.setInternshipDataFilePath(internshipDataFilePath);
     }
 
+    @Override
+    public String getInternshipSortSpec() {
+        return userPrefs.getInternshipSortSpec();
+    }
+
+    @Override
+    public void setInternshipSortSpec(String internshipSortSpec) {
+        requireNonNull(internshipSortSpec);
+        userPrefs.setInternshipSortSpec(internshipSortSpec);
+    }
+
     @Override
     public void setInternshipData(ReadOnlyInternshipData internshipData) {
         this.internshipData.resetData(internshipData);
@@ -92,6 +118,28 @@ public class InternshipModelManager implements InternshipModel {
         return internshipData;
     }
 
+    @Override
+    public long getInternshipDataVersion() {
+        return internshipData.getVersion();
+    }
+
+    @Override
+    public InternshipChanges takeInternshipDataChanges() {
+        return internshipData.takeChanges();
+    }
+
+    @Override
+    public int getInternshipCount(StatusEnum status) {
+        requireNonNull(status);
+        return internshipData.getKeywordIndex().getCount(status);
+    }
+
+    @Override
+    public int getInternshipCount(LocationEnum location) {
+        requireNonNull(location);
+        return internshipData.getKeywordIndex().getCount(location);
+    }
+
     @Override
     public boolean hasInternship(Internship internship) {
         requireNonNull(internship);
@@ -121,7 +169,7 @@ public class InternshipModelManager implements InternshipModel {
      */
     @Override
     public ObservableList<Internship> getFilteredInternshipList() {
-        return sortedInternships;
+        return orderedInternships;
     }
 
     /**
@@ -130,22 +178,114 @@ public class InternshipModelManager implements InternshipModel {
      */
     public void sortFilteredInternshipList(Comparator<Internship> comparator) {
         requireNonNull(comparator);
-        sortedInternships.setComparator(comparator);
+        orderedInternships.setComparator(comparator);
     }
+    /**
+     * The internship with the same id as {@code internship} in the internship data is selected, or none if there is
+     * no such internship.
+     */
     @Override
     public void setSelectedInternship(Internship internship) {
-        selectedInternship.setPredicate(internship::equals);
+        requireNonNull(internship);
+        Optional<Internship> storedInternship = internshipData.getInternshipById(internship.getId());
+        if (storedInternship.isPresent()) {
+            selectedInternship.setAll(storedInternship.get());
+        } else {
+            selectedInternship.clear();
+        }
     }
 
     @Override
     public ObservableList<Internship> getSelectedInternship() {
-        return selectedInternship;
+        return unmodifiableSelectedInternship;
+    }
+
+    /**
+     * Replaces the selected internship with its latest version in the internship data, found by its id, or clears
+     * the selection if it is no longer in the internship data.
+     */
+    private void followSelectedInternship() {
+        if (selectedInternship.isEmpty()) {
+            return;
+        }
+        Internship selected = selectedInternship.get(0);
+        Optional<Internship> storedInternship = internshipData.getInternshipById(selected.getId());
+        if (storedInternship.isEmpty()) {
+            selectedInternship.clear();
+        } else if (storedInternship.get() != selected) {
+            selectedInternship.set(0, storedInternship.get());
+        }
     }
 
+    /**
+     * Keyword searches are answered from the keyword index of the internship data rather than by testing the fields
+     * of every internship. A search that can only narrow down the current keyword search is answered by testing the
+     * internships currently shown instead. Other filters are tested on all internships in parallel first, when there
+     * are many of them. The results of the most recent searches are cached until the data changes. Showing all
+     * internships when all of them are already shown leaves the list as it is.
+     */
     @Override
     public void updateFilteredInternshipList(Predicate<Internship> predicate) {
         requireNonNull(predicate);
-        filteredInternships.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_INTERNSHIPS && isShowingAllInternships()) {
+            return;
+        }
+        if (!(predicate instanceof InternshipContainsKeywordsPredicate)) {
+            currentKeywordsPredicate = null;
+            boolean isParallel = predicate != PREDICATE_SHOW_ALL_INTERNSHIPS
+                    && internshipData.getInternshipList().size() >= InternshipFilterUtil.DEFAULT_PARALLEL_THRESHOLD;
+            filteredInternships.setPredicate(isParallel ? withMatchingIdsComputedInParallel(predicate) : predicate);
+            return;
+        }
+
+        InternshipContainsKeywordsPredicate keywordsPredicate = (InternshipContainsKeywordsPredicate) predicate;
+        long version = internshipData.getVersion();
+        BitSet matchingIds = searchResultCache.get(keywordsPredicate, version).orElse(null);
+        if (matchingIds != null) {
+            logger.fine("Restoring cached results of " + keywordsPredicate);
+        } else if (currentKeywordsPredicate != null && keywordsPredicate.isNarrowerThan(currentKeywordsPredicate)) {
+            logger.fine("Refining the current search with " + keywordsPredicate);
+            matchingIds = InternshipFilterUtil.getMatchingIds(filteredInternships, keywordsPredicate);
+        } else {
+            matchingIds = keywordsPredicate.getMatchingIds(internshipData.getKeywordIndex());
+        }
+        searchResultCache.put(keywordsPredicate, version, matchingIds);
+        currentKeywordsPredicate = keywordsPredicate;
+        filteredInternships.setPredicate(keywordsPredicate.usingIndex(internshipData.getKeywordIndex(), matchingIds));
+    }
+
+    private boolean isShowingAllInternships() {
+        Predicate<? super Internship> currentPredicate = filteredInternships.getPredicate();
+        return currentPredicate == null || currentPredicate == PREDICATE_SHOW_ALL_INTERNSHIPS;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which looks up the internships currently in the data in the
+     * ids they are found to match by testing them all in parallel. Internships added or changed afterwards are
+     * tested with {@code predicate} itself.
+     */
+    private Predicate<Internship> withMatchingIdsComputedInParallel(Predicate<Internship> predicate) {
+        BitSet matchingIds = InternshipFilterUtil.getMatchingIds(internshipData.getInternshipList(), predicate);
+        // The index is updated before the internship list notifies the filtered list of a change
+        InternshipKeywordIndex index = internshipData.getKeywordIndex();
+        long version = index.getVersion();
+        return internship -> index.getVersion() == version
+                ? matchingIds.get(internship.getId())
+                : predicate.test(internship);
+    }
+
+    /**
+     * Returns the number of keyword searches whose results were found in the cache.
+     */
+    public long getSearchCacheHitCount() {
+        return searchResultCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of keyword searches whose results were not found in the cache.
+     */
+    public long getSearchCacheMissCount() {
+        return searchResultCache.getMissCount();
     }
 
     @Override
@@ -15,6 +15,7 @@ public class InternshipUserPrefs implements ReadOnlyInternshipUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path internshipDataFilePath = Paths.get("data" , "internshipdata.json");
+    private String internshipSortSpec = "";
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +37,7 @@ public class InternshipUserPrefs implements ReadOnlyInternshipUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setInternshipDataFilePath(newUserPrefs.getInternshipDataFilePath());
+        setInternshipSortSpec(newUserPrefs.getInternshipSortSpec());
     }
 
     /**
@@ -73,10 +75,28 @@ public class InternshipUserPrefs implements ReadOnlyInternshipUserPrefs {
     }
 
     /**
-     * Returns true if both UserPrefs have the same GUI settings and internship data file path.
+     * Returns the arguments of the sort command that the internship list was last sorted with.
+     * @return Arguments of the last sort command, or an empty string if the list has not been sorted.
+     */
+    public String getInternshipSortSpec() {
+        // a prefs file may hold null for the sort, which is read into the field as it is
+        return internshipSortSpec == null ? "" : internshipSortSpec;
+    }
+
+    /**
+     * Sets the arguments of the sort command that the internship list was last sorted with.
+     * @param internshipSortSpec Arguments of the last sort command, or an empty string to leave the list unsorted.
+     */
+    public void setInternshipSortSpec(String internshipSortSpec) {
+        requireNonNull(internshipSortSpec);
+        this.internshipSortSpec = internshipSortSpec;
+    }
+
+    /**
+     * Returns true if both UserPrefs have the same GUI settings, internship data file path and sort.
      * This defines a stronger notion of equality between two UserPrefs.
      * @param other Other UserPrefs to compare with.
-     * @return True if both UserPrefs have the same GUI settings and internship data file path.
+     * @return True if both UserPrefs have the same GUI settings, internship data file path and sort.
      */
     @Override
     public boolean equals(Object other) {
@@ -91,12 +111,13 @@ public class InternshipUserPrefs implements ReadOnlyInternshipUserPrefs {
 
         InternshipUserPrefs otherUserPrefs = (InternshipUserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && internshipDataFilePath.equals(otherUserPrefs.internshipDataFilePath);
+                && internshipDataFilePath.equals(otherUserPrefs.internshipDataFilePath)
+                && getInternshipSortSpec().equals(otherUserPrefs.getInternshipSortSpec());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, internshipDataFilePath);
+        return Objects.hash(guiSettings, internshipDataFilePath, getInternshipSortSpec());
     }
 
     @Override
@@ -104,6 +125,7 @@ public class InternshipUserPrefs implements ReadOnlyInternshipUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + internshipDataFilePath);
+        sb.append("\nSort : " + getInternshipSortSpec());
         return sb.toString();
     }
 
@@ -0,0 +1,189 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipSortKey;
+
+/**
+ * A view of a list of internships in the order of a comparator, or in the order of the list if there is none.
+ * Internships that the comparator considers equal are ordered by id.
+ *
+ * The view keeps the internships in an {@code IndexedTreeSet}, so a change to a single internship in the list moves
+ * only that internship in the view, in O(log n) comparisons, instead of sorting the view again. The position of each
+ * internship of the view in the list is worked out the first time it is asked for after the view changes.
+ */
+class OrderedInternshipList extends TransformationList<Internship, Internship> {
+
+    // Changes to more internships than this at once are applied by ordering the whole view again
+    private static final int MAX_INCREMENTAL_CHANGE_SIZE = 64;
+
+    private Comparator<Internship> comparator;
+    private IndexedTreeSet<Internship> order;
+    // The source index of each internship in the view, or null if not worked out since the view last changed
+    private int[] sourceIndexes;
+
+    /**
+     * Creates a view of {@code source} in the order of the list.
+     */
+    OrderedInternshipList(ObservableList<Internship> source) {
+        super(source);
+    }
+
+    /**
+     * Returns the comparator the view is ordered by, or null if it is in the order of the list.
+     */
+    Comparator<Internship> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Orders the view by {@code comparator}, or in the order of the list if it is null.
+     */
+    void setComparator(Comparator<Internship> comparator) {
+        beginChange();
+        List<Internship> removed = new ArrayList<>(this);
+        this.comparator = comparator;
+        sourceIndexes = null;
+        if (comparator == null) {
+            order = null;
+        } else {
+            order = new IndexedTreeSet<>(comparator.thenComparingInt(Internship::getId));
+            if (comparator instanceof InternshipSortKey) {
+                // the keys of all internships are derived once here, rather than on every comparison of the sort, and
+                // the sort orders ties by id as the set does, so its order is not checked again
+                order.setAllSortedUnchecked(((InternshipSortKey) comparator).sort(getSource()));
+            } else {
+                order.setAll(getSource());
+            }
+        }
+        nextRemove(0, removed);
+        nextAdd(0, size());
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Internship> c) {
+        if (order != null && !isIncremental(c)) {
+            setComparator(comparator);
+            return;
+        }
+
+        beginChange();
+        sourceIndexes = null;
+        while (c.next()) {
+            if (order == null) {
+                forwardChange(c);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    moveUpdated(c.getList().get(i));
+                }
+            } else if (!c.wasPermutated()) {
+                for (Internship removed : c.getRemoved()) {
+                    nextRemove(order.remove(removed), removed);
+                }
+                for (Internship added : c.getAddedSubList()) {
+                    int index = order.add(added);
+                    nextAdd(index, index + 1);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns true if {@code c} can be applied by moving each internship it changes by itself. An updated internship
+     * can, as long as it can still be found in the view by comparing it.
+     */
+    private boolean isIncremental(ListChangeListener.Change<? extends Internship> c) {
+        int changeSize = 0;
+        boolean isUpdatedInPlace = true;
+        while (c.next() && changeSize <= MAX_INCREMENTAL_CHANGE_SIZE) {
+            changeSize += c.getRemovedSize() + c.getAddedSize();
+            if (c.wasUpdated()) {
+                changeSize += c.getTo() - c.getFrom();
+                for (int i = c.getFrom(); i < c.getTo() && isUpdatedInPlace; i++) {
+                    isUpdatedInPlace = order.indexOf(c.getList().get(i)) >= 0;
+                }
+            }
+        }
+        c.reset();
+        return isUpdatedInPlace && changeSize <= MAX_INCREMENTAL_CHANGE_SIZE;
+    }
+
+    /**
+     * Moves {@code updated} to where it belongs in the view, by removing it and adding it again.
+     */
+    private void moveUpdated(Internship updated) {
+        int from = order.remove(updated);
+        int to = order.add(updated);
+        if (from == to) {
+            nextUpdate(to);
+        } else {
+            nextRemove(from, updated);
+            nextAdd(to, to + 1);
+        }
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends Internship> c) {
+        if (c.wasPermutated()) {
+            int[] permutation = new int[c.getTo() - c.getFrom()];
+            for (int i = c.getFrom(); i < c.getTo(); i++) {
+                permutation[i - c.getFrom()] = c.getPermutation(i);
+            }
+            nextPermutation(c.getFrom(), c.getTo(), permutation);
+        } else if (c.wasUpdated()) {
+            for (int i = c.getFrom(); i < c.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (c.wasRemoved()) {
+                nextRemove(c.getFrom(), c.getRemoved());
+            }
+            if (c.wasAdded()) {
+                nextAdd(c.getFrom(), c.getTo());
+            }
+        }
+    }
+
+    @Override
+    public Internship get(int index) {
+        return order == null ? getSource().get(index) : order.get(index);
+    }
+
+    @Override
+    public int size() {
+        // while the source changes, the view keeps its size until it has applied the change
+        return order == null ? getSource().size() : order.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (order == null) {
+            return index;
+        }
+        if (sourceIndexes == null) {
+            Map<Internship, Integer> sourceIndexByInternship = new IdentityHashMap<>();
+            for (int i = 0; i < getSource().size(); i++) {
+                sourceIndexByInternship.put(getSource().get(i), i);
+            }
+            sourceIndexes = new int[order.size()];
+            for (int i = 0; i < sourceIndexes.length; i++) {
+                sourceIndexes[i] = sourceIndexByInternship.get(order.get(i));
+            }
+        }
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return order == null ? index : order.indexOf(getSource().get(index));
+    }
+}
@@ -13,4 +13,6 @@ public interface ReadOnlyInternshipUserPrefs {
 
     Path getInternshipDataFilePath();
 
+    String getInternshipSortSpec();
+
 }
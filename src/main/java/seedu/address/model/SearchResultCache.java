@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+
+/**
+ * A bounded cache of the ids of the internships matched by keyword searches, which evicts the least recently used
+ * search once full.
+ *
+ * Results are only valid for the version of the internship data they were computed from. The whole cache is emptied
+ * as soon as it is used with another version, since any change to the data can change the result of any search.
+ */
+class SearchResultCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<InternshipContainsKeywordsPredicate, BitSet> results;
+    private long dataVersion;
+    private long hitCount;
+    private long missCount;
+
+    SearchResultCache(int capacity) {
+        checkArgument(capacity > 0, "Cache must be able to hold at least one search.");
+        results = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<InternshipContainsKeywordsPredicate, BitSet> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the ids matched by {@code search} in the given version of the data, if they are cached.
+     * The returned ids must not be modified.
+     */
+    Optional<BitSet> get(InternshipContainsKeywordsPredicate search, long dataVersion) {
+        requireNonNull(search);
+        invalidateIfChanged(dataVersion);
+        BitSet matchingIds = results.get(search);
+        if (matchingIds == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return Optional.ofNullable(matchingIds);
+    }
+
+    /**
+     * Caches {@code matchingIds} as the ids matched by {@code search} in the given version of the data.
+     * {@code matchingIds} must not be modified afterwards.
+     */
+    void put(InternshipContainsKeywordsPredicate search, long dataVersion, BitSet matchingIds) {
+        requireNonNull(search);
+        requireNonNull(matchingIds);
+        invalidateIfChanged(dataVersion);
+        results.put(search, matchingIds);
+    }
+
+    private void invalidateIfChanged(long dataVersion) {
+        if (dataVersion != this.dataVersion) {
+            results.clear();
+            this.dataVersion = dataVersion;
+        }
+    }
+
+    int size() {
+        return results.size();
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+}
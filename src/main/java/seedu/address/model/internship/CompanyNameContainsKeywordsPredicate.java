@@ -1,9 +1,9 @@
 package seedu.address.model.internship;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -18,9 +18,9 @@ public class CompanyNameContainsKeywordsPredicate implements Predicate<Internshi
 
     @Override
     public boolean test(Internship internship) {
+        Set<String> companyNameWords = internship.getWords(SearchableField.COMPANY_NAME);
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(internship.getCompanyName().companyName,
-                        keyword));
+                .anyMatch(keyword -> companyNameWords.contains(InternshipKeywordIndex.normalize(keyword)));
     }
 
     @Override
@@ -1,16 +1,38 @@
 package seedu.address.model.internship;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents an Internship in the internship data.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Every internship also carries a stable surrogate id, assigned on creation and kept across edits,
+ * which the model uses to locate records without comparing them field by field.
+ * The id is not part of either notion of equality.
+ *
+ * As an internship never changes, the words of each of its searchable fields are split out once, when they are
+ * first needed, and then kept for every later search.
  */
 public class Internship {
+    public static final String MESSAGE_ID_CONSTRAINTS =
+            "Internship ids should be non-negative integers, not far larger than the number of internships";
+
+    // Ids of internships read from storage may exceed this many per internship, plus the slack below
+    private static final int MAX_STORED_IDS_PER_INTERNSHIP = 4;
+    private static final int MAX_STORED_ID_SLACK = 1 << 20;
+
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final int id;
+
     // Identity fields
     private final CompanyName companyName;
     private final Location location;
@@ -25,13 +47,35 @@ public class Internship {
     private final Remark remark;
     private final TaskList taskList;
 
+    // The words of each searchable field, by ordinal; an entry is null until the words are first needed
+    private final AtomicReferenceArray<Set<String>> fieldWords =
+            new AtomicReferenceArray<>(SearchableField.values().length);
+
     /**
      * Every field except for remark must be present and not null.
+     * A fresh id is assigned to the internship.
      */
     public Internship(CompanyName companyName, ContactName contactName, ContactEmail contactEmail,
                       ContactNumber contactNumber, Location location, ApplicationStatus applicationStatus,
                       Description description, Role role, Remark remark, TaskList taskList) {
+        // ids run out rather than wrap around to negative ones
+        this(nextId.getAndUpdate(id -> Math.addExact(id, 1)), companyName, contactName, contactEmail,
+                contactNumber, location, applicationStatus, description, role, remark, taskList);
+    }
+
+    /**
+     * Every field except for remark must be present and not null.
+     * The internship takes the given {@code id}, which must be non-negative. This is used to keep the id of a
+     * record across edits and when loading records from storage.
+     */
+    public Internship(int id, CompanyName companyName, ContactName contactName, ContactEmail contactEmail,
+                      ContactNumber contactNumber, Location location, ApplicationStatus applicationStatus,
+                      Description description, Role role, Remark remark, TaskList taskList) {
         requireAllNonNull(companyName, contactName, contactEmail, contactNumber, applicationStatus, description);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        // ids handed out later must not clash with ids restored from storage
+        nextId.accumulateAndGet(id + 1, Math::max);
+        this.id = id;
         this.companyName = companyName;
         this.contactName = contactName;
         this.contactEmail = contactEmail;
@@ -44,6 +88,47 @@ public class Internship {
         this.taskList = taskList;
     }
 
+    /**
+     * Reserves {@code count} consecutive fresh ids, all larger than {@code minId}, and returns the first of them.
+     * This is used to give ids to internships read from storage without one, once the largest of the ids read with
+     * them is known.
+     */
+    public static int reserveIds(int count, int minId) {
+        return nextId.updateAndGet(id -> Math.addExact(Math.max(id, minId + 1), count)) - count;
+    }
+
+    /**
+     * Returns true if a given integer is a valid internship id.
+     * The largest integer is not, so that the id after any valid id can always be handed out.
+     */
+    public static boolean isValidId(int test) {
+        return test >= 0 && test < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if a given integer is a valid id for an internship read from storage together with
+     * {@code internshipCount} - 1 others.
+     * Ids of deleted internships are not handed out again, so stored ids may well exceed the number of internships,
+     * but an id far beyond it can only have been edited in by hand, and would needlessly grow everything that the
+     * model indexes by id. Internships loaded in bulk with such an id are given a fresh one instead.
+     */
+    public static boolean isValidStoredId(int test, int internshipCount) {
+        return isValidId(test) && test <= getMaxStoredId(internshipCount);
+    }
+
+    /**
+     * Returns the largest valid id of an internship read from storage together with {@code internshipCount} - 1
+     * others.
+     */
+    public static int getMaxStoredId(int internshipCount) {
+        long maxStoredId = (long) MAX_STORED_IDS_PER_INTERNSHIP * internshipCount + MAX_STORED_ID_SLACK;
+        return (int) Math.min(maxStoredId, Integer.MAX_VALUE - 1);
+    }
+
+    public int getId() {
+        return id;
+    }
+
     public CompanyName getCompanyName() {
         return companyName;
     }
@@ -88,12 +173,18 @@ public class Internship {
         return taskList.getTaskListSize();
     }
 
-    public void addTask(Task task) {
-        taskList.addTask(task);
-    }
-
-    public void deleteTask(int index) {
-        taskList.deleteTask(index);
+    /**
+     * Returns the words of {@code field} in this internship, normalized as by
+     * {@link InternshipKeywordIndex#normalize(String)}.
+     */
+    public Set<String> getWords(SearchableField field) {
+        Set<String> words = fieldWords.get(field.ordinal());
+        if (words == null) {
+            // Racing threads compute equal sets, so whichever is kept does not matter
+            words = InternshipKeywordIndex.tokenize(field.getText(this));
+            fieldWords.lazySet(field.ordinal(), words);
+        }
+        return words;
     }
 
     /**
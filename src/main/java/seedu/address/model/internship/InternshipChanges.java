@@ -0,0 +1,132 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The changes made to a {@code UniqueInternshipList} over some time, in the order they were made.
+ *
+ * Each change either puts an internship under its id, after all other internships if the id is new or in place of
+ * the internship with that id otherwise, or removes the internship with an id. The changes may start by replacing
+ * all the internships at once, as when the list is loaded or cleared.
+ */
+public class InternshipChanges {
+
+    // The internships that replaced all others before the other changes were made, or null if there were none
+    private List<Internship> replacement;
+    private final List<Change> changes = new ArrayList<>();
+
+    InternshipChanges() {}
+
+    /**
+     * Records that {@code internship} was put under its id.
+     */
+    void put(Internship internship) {
+        requireNonNull(internship);
+        changes.add(new Change(internship.getId(), internship));
+    }
+
+    /**
+     * Records that the internship with the given {@code id} was removed.
+     */
+    void remove(int id) {
+        changes.add(new Change(id, null));
+    }
+
+    /**
+     * Records that all the internships were replaced by {@code internships}, which makes the changes recorded so far
+     * irrelevant.
+     */
+    void replaceAll(List<Internship> internships) {
+        replacement = List.copyOf(internships);
+        changes.clear();
+    }
+
+    /**
+     * Appends the {@code later} changes to these changes.
+     */
+    public void append(InternshipChanges later) {
+        requireNonNull(later);
+        if (later.replacement != null) {
+            replacement = later.replacement;
+            changes.clear();
+        }
+        changes.addAll(later.changes);
+    }
+
+    /**
+     * Returns true if no change was recorded.
+     */
+    public boolean isEmpty() {
+        return replacement == null && changes.isEmpty();
+    }
+
+    /**
+     * Returns true if the changes start by replacing all the internships.
+     */
+    public boolean replacesAll() {
+        return replacement != null;
+    }
+
+    /**
+     * Returns the changes made after all the internships were replaced, if they were, in the order they were made.
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Returns the number of changes made after all the internships were replaced, if they were.
+     */
+    int size() {
+        return changes.size();
+    }
+
+    /**
+     * Applies these changes to {@code internships}, which are keyed by id and kept in the order of the list.
+     */
+    public void applyTo(Map<Integer, Internship> internships) {
+        requireNonNull(internships);
+        if (replacement != null) {
+            internships.clear();
+            replacement.forEach(internship -> internships.put(internship.getId(), internship));
+        }
+        for (Change change : changes) {
+            if (change.internship == null) {
+                internships.remove(change.id);
+            } else {
+                internships.put(change.id, change.internship);
+            }
+        }
+    }
+
+    /**
+     * A change that puts an internship under its id, or removes the internship with an id.
+     */
+    public static class Change {
+        private final int id;
+        private final Internship internship;
+
+        private Change(int id, Internship internship) {
+            this.id = id;
+            this.internship = internship;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * Returns the internship put under the id, or an empty {@code Optional} if the internship with the id was
+         * removed.
+         */
+        public Optional<Internship> getInternship() {
+            return Optional.ofNullable(internship);
+        }
+    }
+}
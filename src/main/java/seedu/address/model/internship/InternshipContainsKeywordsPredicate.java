@@ -1,11 +1,21 @@
 package seedu.address.model.internship;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -20,6 +30,7 @@ public class InternshipContainsKeywordsPredicate implements Predicate<Internship
     private final Optional<Set<String>> descriptionKeywords;
     private final Optional<Set<String>> roleKeywords;
     private final Optional<Set<String>> remarkKeywords;
+    private final List<Predicate<Internship>> fieldMatchers;
 
     /**
      * Creates a predicate that checks if an internship's fields contain any of the keywords specified for that field.
@@ -44,49 +55,178 @@ public class InternshipContainsKeywordsPredicate implements Predicate<Internship
         this.roleKeywords = getKeywords(roles);
         this.remarkKeywords = getKeywords(remarks);
         this.isMatchAll = isMatchAll;
+        this.fieldMatchers = compileFieldMatchers();
     }
 
     /**
      * Tests if the given internship contains any of the keywords specified for all fields (when isMatchAll is true) or
      * any of the keywords specified for any field (when isMatchAll is false).
+     * Only the fields with keywords are checked, and checking stops as soon as the result is known.
      */
     @Override
     public boolean test(Internship internship) {
-        boolean foundInCompanyName = companyNameKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getCompanyName().companyName, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInContactName = contactNameKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getContactName().contactName, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInLocation = locationKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getLocation().toString(), keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInStatus = statusKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getApplicationStatus().toString(), keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInDescription = descriptionKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getDescription().description, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInRole = roleKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        internship.getRole().role, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInRemark = remarkKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        internship.getRemark().value, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
+        for (int i = 0; i < fieldMatchers.size(); i++) {
+            boolean isFound = fieldMatchers.get(i).test(internship);
+            if (isFound != isMatchAll) {
+                // a field without the keywords fails a match all, and a field with them passes a match any
+                return isFound;
+            }
+        }
+        return isMatchAll;
+    }
+
+    /**
+     * Returns a test for each field with keywords, that checks if the field of an internship contains any of them.
+     * The status and location fields are compared as enums, and are checked first as they are the cheapest to check.
+     */
+    private List<Predicate<Internship>> compileFieldMatchers() {
+        List<Predicate<Internship>> matchers = new ArrayList<>();
+        statusKeywords.ifPresent(keywords -> {
+            Set<ApplicationStatus.StatusEnum> statuses = getMatchingValues(ApplicationStatus.StatusEnum.values(),
+                    keywords);
+            matchers.add(internship -> statuses.contains(internship.getApplicationStatus().getStatus()));
+        });
+        locationKeywords.ifPresent(keywords -> {
+            Set<Location.LocationEnum> locations = getMatchingValues(Location.LocationEnum.values(), keywords);
+            matchers.add(internship -> locations.contains(internship.getLocation().getLocation()));
+        });
+        getKeywordsByField().forEach((field, keywords) -> {
+            if (field == SearchableField.STATUS || field == SearchableField.LOCATION) {
+                return;
+            }
+            String[] words = keywords.stream().map(InternshipKeywordIndex::normalize).toArray(String[]::new);
+            matchers.add(internship -> containsAny(internship.getWords(field), words));
+        });
+        return matchers;
+    }
+
+    /**
+     * Returns the enum {@code values} whose names are one of {@code keywords}, ignoring case.
+     */
+    private static <E extends Enum<E>> Set<E> getMatchingValues(E[] values, Set<String> keywords) {
+        Set<String> words = keywords.stream().map(InternshipKeywordIndex::normalize).collect(Collectors.toSet());
+        Set<E> matchingValues = new HashSet<>();
+        for (E value : values) {
+            if (words.contains(InternshipKeywordIndex.normalize(value.name()))) {
+                matchingValues.add(value);
+            }
+        }
+        return matchingValues.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(matchingValues);
+    }
+
+    private static boolean containsAny(Set<String> fieldWords, String[] words) {
+        for (String word : words) {
+            if (fieldWords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the ids of the internships in {@code index} that this predicate accepts, without testing the internships
+     * one by one. The keywords of a field match the union of their bitmaps in the index, and the matches of the
+     * fields are then combined bitwise, with AND (when isMatchAll is true) or OR (when isMatchAll is false).
+     */
+    public BitSet getMatchingIds(InternshipKeywordIndex index) {
+        BitSet matches = isMatchAll ? index.getAllIds() : new BitSet();
+        for (Map.Entry<SearchableField, Set<String>> fieldKeywords : getKeywordsByField().entrySet()) {
+            BitSet fieldMatches = new BitSet();
+            for (String keyword : fieldKeywords.getValue()) {
+                fieldMatches.or(index.getIds(fieldKeywords.getKey(), keyword));
+            }
+            if (isMatchAll) {
+                matches.and(fieldMatches);
+            } else {
+                matches.or(fieldMatches);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that accepts the same internships as this one, by looking their ids up in the result of
+     * {@link #getMatchingIds(InternshipKeywordIndex)}. The result is computed again whenever {@code index} changes.
+     * {@code index} must hold every internship the returned predicate is tested with.
+     */
+    public Predicate<Internship> usingIndex(InternshipKeywordIndex index) {
+        return usingIndex(index, getMatchingIds(index));
+    }
+
+    /**
+     * Similar to {@link #usingIndex(InternshipKeywordIndex)}, but starts from {@code matchingIds}, which must be the
+     * ids of the internships in {@code index} that this predicate accepts.
+     */
+    public Predicate<Internship> usingIndex(InternshipKeywordIndex index, BitSet matchingIds) {
+        long initialVersion = index.getVersion();
+        return new Predicate<>() {
+            private long matchedVersion = initialVersion;
+            private BitSet currentMatchingIds = matchingIds;
+
+            @Override
+            public boolean test(Internship internship) {
+                if (matchedVersion != index.getVersion()) {
+                    currentMatchingIds = getMatchingIds(index);
+                    matchedVersion = index.getVersion();
+                }
+                return currentMatchingIds.get(internship.getId());
+            }
+        };
+    }
+
+    /**
+     * Returns true if every internship this predicate accepts is also accepted by {@code other}, as can be told from
+     * the keywords of both predicates alone. This is the case when this predicate only adds conditions to, or drops
+     * alternatives from, {@code other}.
+     */
+    public boolean isNarrowerThan(InternshipContainsKeywordsPredicate other) {
+        requireNonNull(other);
+        Map<SearchableField, Set<String>> keywords = getNormalizedKeywordsByField();
+        Map<SearchableField, Set<String>> otherKeywords = other.getNormalizedKeywordsByField();
+        if (other.isMatchAll) {
+            // every field of other must be required here, by a subset of its keywords
+            return isMatchAll && otherKeywords.entrySet().stream().allMatch(entry ->
+                    keywords.containsKey(entry.getKey()) && entry.getValue().containsAll(keywords.get(entry.getKey())));
+        }
+
+        // other accepts an internship as soon as one of its fields matches
         if (isMatchAll) {
-            return foundInCompanyName && foundInContactName && foundInLocation
-                    && foundInStatus && foundInDescription && foundInRole && foundInRemark;
-        } else { // match any
-            return foundInCompanyName || foundInContactName || foundInLocation
-                    || foundInStatus || foundInDescription || foundInRole || foundInRemark;
+            return keywords.entrySet().stream().anyMatch(entry ->
+                    otherKeywords.containsKey(entry.getKey()) && otherKeywords.get(entry.getKey())
+                            .containsAll(entry.getValue()));
         }
+        return keywords.entrySet().stream().allMatch(entry ->
+                otherKeywords.containsKey(entry.getKey()) && otherKeywords.get(entry.getKey())
+                        .containsAll(entry.getValue()));
+    }
+
+    private Map<SearchableField, Set<String>> getNormalizedKeywordsByField() {
+        Map<SearchableField, Set<String>> normalizedKeywords = new EnumMap<>(SearchableField.class);
+        getKeywordsByField().forEach((field, keywords) -> normalizedKeywords.put(field,
+                keywords.stream().map(InternshipKeywordIndex::normalize).collect(Collectors.toSet())));
+        return normalizedKeywords;
+    }
+
+    /**
+     * Returns true if all fields with keywords must be matched, rather than any of them.
+     */
+    boolean isMatchAll() {
+        return isMatchAll;
+    }
+
+    /**
+     * Returns the keywords of the fields that have keywords.
+     */
+    Map<SearchableField, Set<String>> getKeywordsByField() {
+        Map<SearchableField, Set<String>> keywordsByField = new EnumMap<>(SearchableField.class);
+        companyNameKeywords.ifPresent(keywords -> keywordsByField.put(SearchableField.COMPANY_NAME, keywords));
+        contactNameKeywords.ifPresent(keywords -> keywordsByField.put(SearchableField.CONTACT_NAME, keywords));
+        locationKeywords.ifPresent(keywords -> keywordsByField.put(SearchableField.LOCATION, keywords));
+        statusKeywords.ifPresent(keywords -> keywordsByField.put(SearchableField.STATUS, keywords));
+        descriptionKeywords.ifPresent(keywords -> keywordsByField.put(SearchableField.DESCRIPTION, keywords));
+        roleKeywords.ifPresent(keywords -> keywordsByField.put(SearchableField.ROLE, keywords));
+        remarkKeywords.ifPresent(keywords -> keywordsByField.put(SearchableField.REMARK, keywords));
+        return keywordsByField;
     }
 
     @Override
@@ -112,6 +252,12 @@ public class InternshipContainsKeywordsPredicate implements Predicate<Internship
                 && this.isMatchAll == otherInternshipPredicate.isMatchAll;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(companyNameKeywords, contactNameKeywords, locationKeywords, statusKeywords,
+                descriptionKeywords, roleKeywords, remarkKeywords, isMatchAll);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,68 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Hashable key over the identity fields of an {@code Internship}.
+ * Two keys are equal if and only if {@link Internship#isSameInternship(Internship)} holds for
+ * the internships they were created from, which allows identity lookups to go through a hash set.
+ */
+final class InternshipIdentity {
+
+    private final CompanyName companyName;
+    private final ContactName contactName;
+    private final ContactEmail contactEmail;
+    private final ContactNumber contactNumber;
+    private final Description description;
+    private final Role role;
+    private final Location location;
+    private final int hash;
+
+    private InternshipIdentity(Internship internship) {
+        this.companyName = internship.getCompanyName();
+        this.contactName = internship.getContactName();
+        this.contactEmail = internship.getContactEmail();
+        this.contactNumber = internship.getContactNumber();
+        this.description = internship.getDescription();
+        this.role = internship.getRole();
+        this.location = internship.getLocation();
+        this.hash = Objects.hash(companyName, contactName, contactEmail, contactNumber, description, role, location);
+    }
+
+    /**
+     * Returns the identity key of {@code internship}.
+     */
+    static InternshipIdentity of(Internship internship) {
+        requireNonNull(internship);
+        return new InternshipIdentity(internship);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipIdentity)) {
+            return false;
+        }
+
+        InternshipIdentity otherIdentity = (InternshipIdentity) other;
+        return hash == otherIdentity.hash
+                && companyName.equals(otherIdentity.companyName)
+                && contactName.equals(otherIdentity.contactName)
+                && contactEmail.equals(otherIdentity.contactEmail)
+                && contactNumber.equals(otherIdentity.contactNumber)
+                && description.equals(otherIdentity.description)
+                && role.equals(otherIdentity.role)
+                && location.equals(otherIdentity.location);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.Location.LocationEnum;
+
+/**
+ * An inverted index of the words in the searchable fields of a set of internships.
+ * For every {@code SearchableField}, each word found in that field is mapped to the ids of the internships that
+ * contain it. Words are matched case-insensitively, and are separated by whitespace, as in
+ * {@code StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * The status and location fields only take a few values, so instead of words, the index keeps a bitmap of the ids
+ * of the internships with each status and each location, together with the number of such internships. Sets of ids
+ * are returned as bitmaps indexed by id, so that the results for several fields can be combined bitwise.
+ *
+ * The index is updated internship by internship, and its version changes with every update, so that results
+ * computed from it can tell when they are out of date.
+ */
+public class InternshipKeywordIndex {
+
+    private final Map<SearchableField, Map<String, Set<Integer>>> postings = new EnumMap<>(SearchableField.class);
+    private final Map<StatusEnum, BitSet> statusBitmaps = new EnumMap<>(StatusEnum.class);
+    private final Map<LocationEnum, BitSet> locationBitmaps = new EnumMap<>(LocationEnum.class);
+    private final int[] statusCounts = new int[StatusEnum.values().length];
+    private final int[] locationCounts = new int[LocationEnum.values().length];
+    private final BitSet ids = new BitSet();
+    private long version;
+
+    /**
+     * Creates an empty index.
+     */
+    public InternshipKeywordIndex() {
+        for (SearchableField field : SearchableField.values()) {
+            if (field != SearchableField.STATUS && field != SearchableField.LOCATION) {
+                postings.put(field, new HashMap<>());
+            }
+        }
+        for (StatusEnum status : StatusEnum.values()) {
+            statusBitmaps.put(status, new BitSet());
+        }
+        for (LocationEnum location : LocationEnum.values()) {
+            locationBitmaps.put(location, new BitSet());
+        }
+    }
+
+    /**
+     * Returns the normalized form of {@code word} under which it is indexed.
+     */
+    public static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the normalized words of {@code text}, which are separated by the same whitespace characters as
+     * the regular expression {@code \s}.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> words = new HashSet<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || isWhitespace(text.charAt(i))) {
+                if (wordStart >= 0) {
+                    words.add(normalize(text.substring(wordStart, i)));
+                    wordStart = -1;
+                }
+            } else if (wordStart < 0) {
+                wordStart = i;
+            }
+        }
+        return Collections.unmodifiableSet(words);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Adds {@code internship} to the index.
+     */
+    public void add(Internship internship) {
+        requireNonNull(internship);
+        int id = internship.getId();
+        postings.forEach((field, fieldPostings) -> {
+            for (String word : internship.getWords(field)) {
+                fieldPostings.computeIfAbsent(word, unused -> new HashSet<>()).add(id);
+            }
+        });
+        StatusEnum status = internship.getApplicationStatus().getStatus();
+        statusBitmaps.get(status).set(id);
+        statusCounts[status.ordinal()]++;
+        LocationEnum location = internship.getLocation().getLocation();
+        locationBitmaps.get(location).set(id);
+        locationCounts[location.ordinal()]++;
+        ids.set(id);
+        version++;
+    }
+
+    /**
+     * Removes {@code internship} from the index.
+     */
+    public void remove(Internship internship) {
+        requireNonNull(internship);
+        int id = internship.getId();
+        postings.forEach((field, fieldPostings) -> {
+            for (String word : internship.getWords(field)) {
+                Set<Integer> wordIds = fieldPostings.get(word);
+                if (wordIds != null && wordIds.remove(id) && wordIds.isEmpty()) {
+                    fieldPostings.remove(word);
+                }
+            }
+        });
+        StatusEnum status = internship.getApplicationStatus().getStatus();
+        statusBitmaps.get(status).clear(id);
+        statusCounts[status.ordinal()]--;
+        LocationEnum location = internship.getLocation().getLocation();
+        locationBitmaps.get(location).clear(id);
+        locationCounts[location.ordinal()]--;
+        ids.clear(id);
+        version++;
+    }
+
+    /**
+     * Removes all internships from the index.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+        statusBitmaps.values().forEach(BitSet::clear);
+        locationBitmaps.values().forEach(BitSet::clear);
+        Arrays.fill(statusCounts, 0);
+        Arrays.fill(locationCounts, 0);
+        ids.clear();
+        version++;
+    }
+
+    /**
+     * Returns the ids of the internships whose {@code field} contains {@code word}, ignoring case.
+     * The returned bitmap is a copy, which the caller is free to modify.
+     */
+    public BitSet getIds(SearchableField field, String word) {
+        requireNonNull(field);
+        requireNonNull(word);
+        String normalizedWord = normalize(word);
+        if (field == SearchableField.STATUS) {
+            for (StatusEnum status : StatusEnum.values()) {
+                if (normalize(status.name()).equals(normalizedWord)) {
+                    return getIds(status);
+                }
+            }
+            return new BitSet();
+        }
+        if (field == SearchableField.LOCATION) {
+            for (LocationEnum location : LocationEnum.values()) {
+                if (normalize(location.name()).equals(normalizedWord)) {
+                    return getIds(location);
+                }
+            }
+            return new BitSet();
+        }
+
+        BitSet wordIds = new BitSet();
+        postings.get(field).getOrDefault(normalizedWord, Collections.emptySet()).forEach(wordIds::set);
+        return wordIds;
+    }
+
+    /**
+     * Returns the ids of the internships with {@code status}, as a copy which the caller is free to modify.
+     */
+    public BitSet getIds(StatusEnum status) {
+        return (BitSet) statusBitmaps.get(status).clone();
+    }
+
+    /**
+     * Returns the ids of the internships at {@code location}, as a copy which the caller is free to modify.
+     */
+    public BitSet getIds(LocationEnum location) {
+        return (BitSet) locationBitmaps.get(location).clone();
+    }
+
+    /**
+     * Returns the ids of all internships in the index, as a copy which the caller is free to modify.
+     */
+    public BitSet getAllIds() {
+        return (BitSet) ids.clone();
+    }
+
+    /**
+     * Returns the number of internships with {@code status}.
+     */
+    public int getCount(StatusEnum status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    /**
+     * Returns the number of internships at {@code location}.
+     */
+    public int getCount(LocationEnum location) {
+        return locationCounts[location.ordinal()];
+    }
+
+    /**
+     * Returns a number that changes whenever the index is updated.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
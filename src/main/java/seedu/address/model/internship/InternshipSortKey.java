@@ -0,0 +1,343 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A comparator of internships by a key derived from one of their fields.
+ *
+ * Comparing two internships derives both keys again. To sort many internships, {@link #sort(List)} derives the key
+ * of every internship once, and sorts the internships by the resulting ranks instead.
+ */
+public abstract class InternshipSortKey implements Comparator<Internship> {
+
+    private final boolean isAscending;
+
+    private InternshipSortKey(boolean isAscending) {
+        this.isAscending = isAscending;
+    }
+
+    /**
+     * Returns a sort key that compares the text of a field, ignoring case as {@code String.CASE_INSENSITIVE_ORDER}.
+     */
+    public static InternshipSortKey byText(Function<Internship, String> field, boolean isAscending) {
+        requireNonNull(field);
+        return new TextKey(field, isAscending);
+    }
+
+    /**
+     * Returns a sort key that compares the integer a field is mapped to.
+     */
+    public static InternshipSortKey byInt(ToIntFunction<Internship> field, boolean isAscending) {
+        requireNonNull(field);
+        return new IntKey(field, isAscending);
+    }
+
+    /**
+     * Returns a sort key that compares the value of a field made of digits as a number.
+     */
+    public static InternshipSortKey byNumber(Function<Internship, String> field, boolean isAscending) {
+        requireNonNull(field);
+        return new NumberKey(field, isAscending);
+    }
+
+    /**
+     * Returns the string that {@code text} is compared as, such that comparing the returned strings with
+     * {@link String#compareTo(String)} gives the same result as {@code String.CASE_INSENSITIVE_ORDER} on the originals.
+     */
+    static String fold(String text) {
+        char[] folded = text.toCharArray();
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(folded[i]));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns a sort key that orders internships by the first of {@code sortKeys} by which they differ.
+     */
+    public static InternshipSortKey compound(List<InternshipSortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        checkArgument(!sortKeys.isEmpty(), "A compound sort key needs at least one sort key.");
+        return sortKeys.size() == 1 ? sortKeys.get(0) : new CompoundKey(sortKeys);
+    }
+
+    /**
+     * Compares the keys of two internships in ascending order.
+     */
+    abstract int compareAscending(Internship first, Internship second);
+
+    /**
+     * Returns the rank of each internship in {@code internships} when sorted in ascending order of their keys, such
+     * that internships with equal keys share a rank.
+     */
+    abstract int[] getAscendingRanks(List<Internship> internships);
+
+    @Override
+    public int compare(Internship first, Internship second) {
+        int comparison = compareAscending(first, second);
+        return isAscending ? comparison : -comparison;
+    }
+
+    /**
+     * Returns the rank of each internship in {@code internships} in the order of this sort key.
+     */
+    int[] getRanks(List<Internship> internships) {
+        int[] ranks = getAscendingRanks(internships);
+        if (!isAscending) {
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = -ranks[i];
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the internships in {@code internships} sorted by this sort key, with internships of equal keys ordered
+     * by id. The ranks the internships are sorted by are kept only until the sort is done.
+     */
+    public List<Internship> sort(List<? extends Internship> internships) {
+        requireNonNull(internships);
+        // Put in order of id first, so that internships of equal rank are ordered by their index in that order
+        Internship[] byId = sortById(internships.toArray(new Internship[0]));
+        int[] ranks = getRanks(Arrays.asList(byId));
+        long[] packed = new long[byId.length];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = ((long) ranks[i] << Integer.SIZE) | i;
+        }
+        Arrays.sort(packed);
+
+        List<Internship> sorted = new ArrayList<>(packed.length);
+        for (long rankAndIndex : packed) {
+            sorted.add(byId[(int) rankAndIndex]);
+        }
+        return sorted;
+    }
+
+    private static Internship[] sortById(Internship[] internships) {
+        long[] packed = new long[internships.length];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = ((long) internships[i].getId() << Integer.SIZE) | i;
+        }
+        Arrays.sort(packed);
+
+        Internship[] byId = new Internship[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            byId[i] = internships[(int) packed[i]];
+        }
+        return byId;
+    }
+
+    private static int[] indexes(int size) {
+        int[] indexes = new int[size];
+        Arrays.setAll(indexes, i -> i);
+        return indexes;
+    }
+
+    /**
+     * Sorts {@code indexes} by {@code compareIndexes}. This is a merge sort of the primitive indexes, which, unlike
+     * {@code Arrays.sort} with a comparator, needs no boxed copy of them.
+     */
+    private static void sortIndexes(int[] indexes, IntBinaryOperator compareIndexes) {
+        int[] from = indexes;
+        int[] to = new int[indexes.length];
+        for (int width = 1; width < indexes.length; width *= 2) {
+            for (int start = 0; start < indexes.length; start += 2 * width) {
+                int middle = Math.min(start + width, indexes.length);
+                int end = Math.min(start + 2 * width, indexes.length);
+                merge(from, to, start, middle, end, compareIndexes);
+            }
+            int[] merged = to;
+            to = from;
+            from = merged;
+        }
+        if (from != indexes) {
+            System.arraycopy(from, 0, indexes, 0, indexes.length);
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code from[start, middle)} and {@code from[middle, end)} into {@code to[start, end)},
+     * taking from the first run on ties so that the sort is stable.
+     */
+    private static void merge(int[] from, int[] to, int start, int middle, int end, IntBinaryOperator compareIndexes) {
+        int first = start;
+        int second = middle;
+        for (int i = start; i < end; i++) {
+            if (second >= end || first < middle && compareIndexes.applyAsInt(from[first], from[second]) <= 0) {
+                to[i] = from[first++];
+            } else {
+                to[i] = from[second++];
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code order}, the indexes of some keys, by {@code compareIndexes}, and returns the rank of each index,
+     * such that indexes of equal keys share a rank.
+     */
+    private static int[] sortToRanks(int[] order, IntBinaryOperator compareIndexes) {
+        sortIndexes(order, compareIndexes);
+        int[] ranks = new int[order.length];
+        int rank = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0 && compareIndexes.applyAsInt(order[i - 1], order[i]) != 0) {
+                rank++;
+            }
+            ranks[order[i]] = rank;
+        }
+        return ranks;
+    }
+
+    private static class TextKey extends InternshipSortKey {
+        private final Function<Internship, String> field;
+
+        TextKey(Function<Internship, String> field, boolean isAscending) {
+            super(isAscending);
+            this.field = field;
+        }
+
+        @Override
+        int compareAscending(Internship first, Internship second) {
+            return String.CASE_INSENSITIVE_ORDER.compare(field.apply(first), field.apply(second));
+        }
+
+        @Override
+        int[] getAscendingRanks(List<Internship> internships) {
+            String[] keys = new String[internships.size()];
+            Arrays.setAll(keys, i -> fold(field.apply(internships.get(i))));
+            return sortToRanks(indexes(keys.length), (first, second) -> keys[first].compareTo(keys[second]));
+        }
+    }
+
+    private static class IntKey extends InternshipSortKey {
+        private final ToIntFunction<Internship> field;
+
+        IntKey(ToIntFunction<Internship> field, boolean isAscending) {
+            super(isAscending);
+            this.field = field;
+        }
+
+        @Override
+        int compareAscending(Internship first, Internship second) {
+            return Integer.compare(field.applyAsInt(first), field.applyAsInt(second));
+        }
+
+        @Override
+        int[] getAscendingRanks(List<Internship> internships) {
+            // Each key is packed with its index, so that a primitive sort orders the indexes by key
+            long[] packed = new long[internships.size()];
+            for (int i = 0; i < packed.length; i++) {
+                packed[i] = ((long) field.applyAsInt(internships.get(i)) << Integer.SIZE) | i;
+            }
+            Arrays.sort(packed);
+            int[] ranks = new int[packed.length];
+            int rank = 0;
+            for (int i = 0; i < packed.length; i++) {
+                if (i > 0 && (packed[i - 1] >> Integer.SIZE) != (packed[i] >> Integer.SIZE)) {
+                    rank++;
+                }
+                ranks[(int) packed[i]] = rank;
+            }
+            return ranks;
+        }
+    }
+
+    private static class NumberKey extends InternshipSortKey {
+        // Numbers with more digits than this do not fit in a long, and are compared by their digits instead
+        private static final int MAX_DIGITS = 18;
+
+        private final Function<Internship, String> field;
+
+        NumberKey(Function<Internship, String> field, boolean isAscending) {
+            super(isAscending);
+            this.field = field;
+        }
+
+        private static String stripLeadingZeros(String digits) {
+            int start = 0;
+            while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+                start++;
+            }
+            return digits.substring(start);
+        }
+
+        private static long toLong(String digits) {
+            return digits.length() <= MAX_DIGITS ? Long.parseLong(digits) : Long.MAX_VALUE;
+        }
+
+        private static int compareDigits(String first, String second) {
+            int comparison = Long.compare(toLong(first), toLong(second));
+            if (comparison != 0 || first.length() <= MAX_DIGITS) {
+                return comparison;
+            }
+            // both numbers are too long for a long
+            comparison = Integer.compare(first.length(), second.length());
+            return comparison != 0 ? comparison : Integer.signum(first.compareTo(second));
+        }
+
+        @Override
+        int compareAscending(Internship first, Internship second) {
+            return compareDigits(stripLeadingZeros(field.apply(first)), stripLeadingZeros(field.apply(second)));
+        }
+
+        @Override
+        int[] getAscendingRanks(List<Internship> internships) {
+            String[] digits = new String[internships.size()];
+            long[] keys = new long[internships.size()];
+            for (int i = 0; i < keys.length; i++) {
+                digits[i] = stripLeadingZeros(field.apply(internships.get(i)));
+                keys[i] = toLong(digits[i]);
+            }
+            return sortToRanks(indexes(keys.length), (first, second) -> keys[first] != keys[second]
+                    ? Long.compare(keys[first], keys[second])
+                    : compareDigits(digits[first], digits[second]));
+        }
+    }
+
+    private static class CompoundKey extends InternshipSortKey {
+        private final List<InternshipSortKey> sortKeys;
+
+        CompoundKey(List<InternshipSortKey> sortKeys) {
+            super(true);
+            this.sortKeys = List.copyOf(sortKeys);
+        }
+
+        @Override
+        int compareAscending(Internship first, Internship second) {
+            for (InternshipSortKey sortKey : sortKeys) {
+                int comparison = sortKey.compare(first, second);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        int[] getAscendingRanks(List<Internship> internships) {
+            // Each sort key ranks the internships by itself, so that the keys are compared as ranks
+            int[][] ranksBySortKey = new int[sortKeys.size()][];
+            for (int k = 0; k < ranksBySortKey.length; k++) {
+                ranksBySortKey[k] = sortKeys.get(k).getRanks(internships);
+            }
+            return sortToRanks(indexes(internships.size()), (first, second) -> {
+                for (int[] ranks : ranksBySortKey) {
+                    int comparison = Integer.compare(ranks[first], ranks[second]);
+                    if (comparison != 0) {
+                        return comparison;
+                    }
+                }
+                return 0;
+            });
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.model.internship;
+
+import java.util.function.Function;
+
+/**
+ * The fields of an {@code Internship} that can be searched by keyword.
+ */
+public enum SearchableField {
+    COMPANY_NAME(internship -> internship.getCompanyName().companyName),
+    CONTACT_NAME(internship -> internship.getContactName().contactName),
+    LOCATION(internship -> internship.getLocation().toString()),
+    STATUS(internship -> internship.getApplicationStatus().toString()),
+    DESCRIPTION(internship -> internship.getDescription().description),
+    ROLE(internship -> internship.getRole().role),
+    REMARK(internship -> internship.getRemark().value);
+
+    private final Function<Internship, String> textGetter;
+
+    SearchableField(Function<Internship, String> textGetter) {
+        this.textGetter = textGetter;
+    }
+
+    /**
+     * Returns the text of this field in {@code internship}.
+     */
+    public String getText(Internship internship) {
+        return textGetter.apply(internship);
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.internship.Deadline.isValidDeadline;
 
 import java.util.Map;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -23,9 +24,9 @@ public class Task {
 
     public final String task;
 
-    private Deadline deadline;
+    private final Deadline deadline;
 
-    private boolean isDeadlineSet = false;
+    private final boolean isDeadlineSet;
 
     /**
      * Constructs a {@code Task}.
@@ -36,6 +37,8 @@ public class Task {
         requireNonNull(task);
         checkArgument(isValidTask(task), MESSAGE_CONSTRAINTS);
         this.task = task;
+        this.deadline = null;
+        this.isDeadlineSet = false;
     }
 
     /**
@@ -85,11 +88,17 @@ public class Task {
     }
 
     /**
-     * Replace deadline with {@code deadline}.
+     * Returns true if a deadline has been set for this task.
      */
-    public void setDeadline(Deadline deadline) {
-        this.deadline = deadline;
-        isDeadlineSet = true;
+    public boolean isDeadlineSet() {
+        return isDeadlineSet;
+    }
+
+    /**
+     * Returns the deadline of this task, if there is one.
+     */
+    public Optional<Deadline> getDeadline() {
+        return Optional.ofNullable(deadline);
     }
 
     /**
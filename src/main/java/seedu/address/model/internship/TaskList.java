@@ -66,6 +66,13 @@ public class TaskList {
         taskList.remove(index);
     }
 
+    /**
+     * Replaces the task at {@code index} with {@code task}.
+     */
+    public void setTask(int index, Task task) {
+        taskList.set(index, task);
+    }
+
     public Task getTask(int index) {
         return taskList.get(index);
     }
@@ -3,12 +3,18 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.internship.exceptions.DuplicateInternshipException;
+import seedu.address.model.internship.exceptions.DuplicateInternshipIdException;
 import seedu.address.model.internship.exceptions.InternshipNotFoundException;
 
 /**
@@ -16,8 +22,23 @@ import seedu.address.model.internship.exceptions.InternshipNotFoundException;
  * An internship is considered unique by comparing using {@code Internship#isSameInternship(Internship)}.
  * As such, adding of internships uses Internship#isSameInternship(Internship) for equality
  * to ensure that the internship being added is unique in terms of identity in the
- * UniqueInternshipList. However, the removal of a internship uses Internship#equals(Object),to
- * ensure that the internship with exactly the same fields will be removed.
+ * UniqueInternshipList. Internships are also unique by {@code Internship#getId()}, and the target
+ * of a replacement or removal is located through its id, so that the record currently stored
+ * under that id is the one replaced or removed. A target whose id is not in the list falls back
+ * to Internship#equals(Object), to ensure that the internship with exactly the same fields
+ * will be removed.
+ *
+ * The identity keys of all internships in the list are additionally kept in a hash set, and a
+ * position hint for every id in a hash map, so that identity checks and id lookups take constant time
+ * regardless of the size of the list. A removal leaves the hints of the later internships one past
+ * their position rather than updating them all, so a hint is never before the position of its
+ * internship, which is found by walking back from the hint and stored as the new hint. The words of the searchable fields of the internships are
+ * kept in an {@code InternshipKeywordIndex}. Every mutation of the backing list must keep these
+ * indexes in sync, and updates them first, so that listeners of the backing list already see
+ * the updated indexes.
+ *
+ * Every mutation is also recorded, with the id it affects, until the changes are taken with
+ * {@link #takeChanges()}, so that they can be saved without comparing the whole list.
  *
  * Supports a minimal set of list operations.
  *
@@ -28,6 +49,11 @@ public class UniqueInternshipList implements Iterable<Internship> {
     private final ObservableList<Internship> internalList = FXCollections.observableArrayList();
     private final ObservableList<Internship> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Set<InternshipIdentity> identities = new HashSet<>();
+    private Map<Integer, Integer> positions = new HashMap<>();
+    private final InternshipKeywordIndex keywordIndex = new InternshipKeywordIndex();
+    // The changes made to the list since they were last taken
+    private InternshipChanges recordedChanges = new InternshipChanges();
 
     /**
      * Returns true if the list contains an equivalent internship as the given argument.
@@ -35,7 +61,7 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public boolean contains(Internship toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameInternship);
+        return identities.contains(InternshipIdentity.of(toCheck));
     }
 
     /**
@@ -47,7 +73,23 @@ public class UniqueInternshipList implements Iterable<Internship> {
         if (contains(toAdd)) {
             throw new DuplicateInternshipException();
         }
+        if (positions.containsKey(toAdd.getId())) {
+            throw new DuplicateInternshipIdException();
+        }
+        keywordIndex.add(toAdd);
+        identities.add(InternshipIdentity.of(toAdd));
+        positions.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
+        recordedChanges.put(toAdd);
+        boundRecordedChanges();
+    }
+
+    /**
+     * Returns the internship in the list with the given {@code id}, if any.
+     */
+    public Optional<Internship> getById(int id) {
+        int index = positionOf(id);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -59,16 +101,34 @@ public class UniqueInternshipList implements Iterable<Internship> {
     public void setInternship(Internship target, Internship editedInternship) {
         requireAllNonNull(target, editedInternship);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new InternshipNotFoundException();
         }
 
-        if (!target.isSameInternship(editedInternship) && contains(editedInternship)) {
+        Internship current = internalList.get(index);
+        int editedIndex = positionOf(editedInternship.getId());
+        if (!current.isSameInternship(editedInternship) && contains(editedInternship)) {
             throw new DuplicateInternshipException();
         }
+        if (editedIndex != -1 && editedIndex != index) {
+            throw new DuplicateInternshipIdException();
+        }
 
+        keywordIndex.remove(current);
+        keywordIndex.add(editedInternship);
+        identities.remove(InternshipIdentity.of(current));
+        identities.add(InternshipIdentity.of(editedInternship));
+        positions.remove(current.getId());
+        positions.put(editedInternship.getId(), index);
         internalList.set(index, editedInternship);
+        if (editedInternship.getId() == current.getId()) {
+            recordedChanges.put(editedInternship);
+        } else {
+            // an internship put under a new id would be placed last, so the list is recorded as a whole
+            recordedChanges.replaceAll(internalList);
+        }
+        boundRecordedChanges();
     }
 
     /**
@@ -77,27 +137,86 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public void remove(Internship toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new InternshipNotFoundException();
         }
+
+        Internship removed = internalList.get(index);
+        keywordIndex.remove(removed);
+        identities.remove(InternshipIdentity.of(removed));
+        positions.remove(removed.getId());
+        internalList.remove(index);
+        recordedChanges.remove(removed.getId());
+        boundRecordedChanges();
     }
 
     public void setInternships(UniqueInternshipList replacement) {
         requireNonNull(replacement);
+        keywordIndex.clear();
+        replacement.forEach(keywordIndex::add);
+        identities = new HashSet<>(replacement.identities);
+        positions = new HashMap<>(replacement.positions);
         internalList.setAll(replacement.internalList);
+        recordedChanges.replaceAll(internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code internships}.
-     * {@code internships} must not contain duplicate internships.
+     * {@code internships} must not contain duplicate internships, nor internships sharing an id.
+     *
+     * This is the bulk-loading path: duplicates are detected in a single hashed pass, which also builds
+     * the indexes of the new contents, and the whole list is published with a single change event.
+     *
+     * @throws DuplicateInternshipIdException if two of the internships share an id.
+     * @throws DuplicateInternshipException if two of the internships have the same identity.
      */
     public void setInternships(List<Internship> internships) {
         requireAllNonNull(internships);
-        if (!internshipsAreUnique(internships)) {
-            throw new DuplicateInternshipException();
+        Set<InternshipIdentity> newIdentities = new HashSet<>();
+        Map<Integer, Integer> newPositions = new HashMap<>();
+        for (int i = 0; i < internships.size(); i++) {
+            Internship internship = internships.get(i);
+            if (!newIdentities.add(InternshipIdentity.of(internship))) {
+                throw new DuplicateInternshipException();
+            }
+            if (newPositions.put(internship.getId(), i) != null) {
+                throw new DuplicateInternshipIdException();
+            }
         }
 
+        keywordIndex.clear();
+        internships.forEach(keywordIndex::add);
+        identities = newIdentities;
+        positions = newPositions;
         internalList.setAll(internships);
+        recordedChanges.replaceAll(internalList);
+    }
+
+    /**
+     * Returns the changes made to the list since they were last taken.
+     */
+    public InternshipChanges takeChanges() {
+        InternshipChanges changes = recordedChanges;
+        recordedChanges = new InternshipChanges();
+        return changes;
+    }
+
+    /**
+     * Records the whole list in place of the recorded changes once they outnumber the internships in it, so that
+     * changes that are never taken take no more room than the list itself.
+     */
+    private void boundRecordedChanges() {
+        if (recordedChanges.size() > internalList.size()) {
+            recordedChanges.replaceAll(internalList);
+        }
+    }
+
+    /**
+     * Returns the index of the words in the internships of the list.
+     */
+    public InternshipKeywordIndex getKeywordIndex() {
+        return keywordIndex;
     }
 
     /**
@@ -138,17 +257,30 @@ public class UniqueInternshipList implements Iterable<Internship> {
     }
 
     /**
-     * Returns true if {@code internships} contains only unique internships.
+     * Returns the position of {@code target} in the backing list, or -1 if it is not in the list.
      */
-    private boolean internshipsAreUnique(List<Internship> internships) {
-        for (int i = 0; i < internships.size() - 1; i++) {
-            for (int j = i + 1; j < internships.size(); j++) {
-                if (internships.get(i).isSameInternship(internships.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Internship target) {
+        int index = positionOf(target.getId());
+        return index != -1 ? index : internalList.indexOf(target);
+    }
+
+    /**
+     * Returns the position of the internship with the given {@code id} in the backing list, or -1 if there is none,
+     * and stores that position as its hint.
+     */
+    private int positionOf(int id) {
+        Integer hint = positions.get(id);
+        if (hint == null) {
+            return -1;
+        }
+        int index = Math.min(hint, internalList.size() - 1);
+        while (internalList.get(index).getId() != id) {
+            index--;
+        }
+        if (index != hint) {
+            positions.put(id, index);
         }
-        return true;
+        return index;
     }
 
     /**
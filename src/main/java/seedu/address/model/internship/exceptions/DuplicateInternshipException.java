@@ -8,4 +8,8 @@ public class DuplicateInternshipException extends RuntimeException {
     public DuplicateInternshipException() {
         super("Operation would result in duplicate internships");
     }
+
+    protected DuplicateInternshipException(String message) {
+        super(message);
+    }
 }
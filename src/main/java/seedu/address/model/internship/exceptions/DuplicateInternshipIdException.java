@@ -0,0 +1,10 @@
+package seedu.address.model.internship.exceptions;
+
+/**
+ * Signals that the operation will result in two Internships sharing the same id.
+ */
+public class DuplicateInternshipIdException extends DuplicateInternshipException {
+    public DuplicateInternshipIdException() {
+        super("Operation would result in duplicate internship ids");
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.model.internship.Internship;
+
+/**
+ * Contains utility methods for finding the internships in a list that satisfy a predicate.
+ */
+public class InternshipFilterUtil {
+
+    /** Number of internships from which a list is filtered in parallel by default. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 5000;
+
+    /**
+     * Returns the ids of the internships in {@code internships} that satisfy {@code predicate}.
+     * The list is filtered in parallel if it holds at least {@link #DEFAULT_PARALLEL_THRESHOLD} internships.
+     */
+    public static BitSet getMatchingIds(List<Internship> internships, Predicate<? super Internship> predicate) {
+        return getMatchingIds(internships, predicate, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #getMatchingIds(List, Predicate)}, but filters the list in parallel if it holds at least
+     * {@code parallelThreshold} internships.
+     *
+     * In parallel, the list is split into chunks that are tested on the common fork-join pool, each into a bitmap of
+     * its own, and the bitmaps are then merged. {@code predicate} must therefore be safe to test from several threads,
+     * and {@code internships} must not change until this method returns. The result is the same either way.
+     */
+    public static BitSet getMatchingIds(List<Internship> internships, Predicate<? super Internship> predicate,
+            int parallelThreshold) {
+        requireAllNonNull(internships, predicate);
+        if (internships.size() < parallelThreshold) {
+            BitSet matchingIds = new BitSet();
+            for (Internship internship : internships) {
+                if (predicate.test(internship)) {
+                    matchingIds.set(internship.getId());
+                }
+            }
+            return matchingIds;
+        }
+
+        return IntStream.range(0, internships.size()).parallel()
+                .collect(BitSet::new, (matchingIds, i) -> {
+                    Internship internship = internships.get(i);
+                    if (predicate.test(internship)) {
+                        matchingIds.set(internship.getId());
+                    }
+                }, BitSet::or);
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+
+/**
+ * A class to access InternshipData stored as a JSON file by another {@code InternshipDataStorage}, which keeps a
+ * binary copy of the file next to it to load from instead.
+ *
+ * The JSON file remains the data file: the binary copy is only used while its checksum matches the JSON file, so
+ * that a JSON file edited by hand, or replaced, is loaded as usual. The copy is rewritten whenever the JSON file is
+ * saved or loaded from.
+ *
+ * @see BinaryInternshipDataFormat
+ */
+public class BinaryCachedInternshipDataStorage implements InternshipDataStorage {
+
+    static final String CACHE_FILE_SUFFIX = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCachedInternshipDataStorage.class);
+
+    private final InternshipDataStorage jsonStorage;
+
+    /**
+     * Creates a storage that caches the JSON file of {@code jsonStorage}.
+     */
+    public BinaryCachedInternshipDataStorage(InternshipDataStorage jsonStorage) {
+        requireNonNull(jsonStorage);
+        this.jsonStorage = jsonStorage;
+    }
+
+    /**
+     * Returns the location of the binary copy kept for the JSON file at {@code jsonPath}.
+     */
+    public static Path getCacheFilePath(Path jsonPath) {
+        return jsonPath.resolveSibling(jsonPath.getFileName() + CACHE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getInternshipDataFilePath() {
+        return jsonStorage.getInternshipDataFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData() throws DataLoadingException {
+        return readInternshipData(getInternshipDataFilePath());
+    }
+
+    /**
+     * Similar to {@link #readInternshipData()}.
+     * Only the data at {@link #getInternshipDataFilePath()} is cached; data at any other location is read from JSON.
+     *
+     * @param filePath location of the JSON file. Cannot be null.
+     * @throws DataLoadingException if loading the data from the JSON file failed.
+     */
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getInternshipDataFilePath()) || !Files.exists(filePath)) {
+            return jsonStorage.readInternshipData(filePath);
+        }
+
+        Path cachePath = getCacheFilePath(filePath);
+        if (Files.exists(cachePath)) {
+            try {
+                Optional<List<Internship>> cached = BinaryInternshipDataFormat.read(cachePath, filePath);
+                if (cached.isPresent()) {
+                    logger.info("Loaded binary copy " + cachePath + " of " + filePath);
+                    return Optional.of(JsonSerializableInternshipData.toInternshipData(cached.get()));
+                }
+                logger.info("Binary copy " + cachePath + " is out of date, reading " + filePath);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Binary copy " + cachePath + " could not be loaded, reading " + filePath + ": " + e);
+            }
+        }
+
+        Optional<ReadOnlyInternshipData> internshipData = jsonStorage.readInternshipData(filePath);
+        if (internshipData.isPresent()) {
+            writeCache(internshipData.get(), filePath);
+        }
+        return internshipData;
+    }
+
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData) throws IOException {
+        saveInternshipData(internshipData, getInternshipDataFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveInternshipData(ReadOnlyInternshipData)}.
+     *
+     * @param filePath location of the JSON file. Cannot be null.
+     */
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) throws IOException {
+        requireNonNull(internshipData);
+        requireNonNull(filePath);
+        jsonStorage.saveInternshipData(internshipData, filePath);
+        if (filePath.equals(getInternshipDataFilePath())) {
+            writeCache(internshipData, filePath);
+        }
+    }
+
+    /**
+     * Writes the binary copy of the JSON file at {@code filePath}, which holds {@code internshipData}.
+     * Failing to do so is not an error, as the JSON file can always be loaded instead.
+     */
+    private void writeCache(ReadOnlyInternshipData internshipData, Path filePath) {
+        Path cachePath = getCacheFilePath(filePath);
+        try {
+            BinaryInternshipDataFormat.write(cachePath, internshipData.getInternshipList(), filePath);
+        } catch (IOException e) {
+            logger.warning("Could not write binary copy " + cachePath + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.internship.ApplicationStatus;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.ContactEmail;
+import seedu.address.model.internship.ContactName;
+import seedu.address.model.internship.ContactNumber;
+import seedu.address.model.internship.Description;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Location;
+import seedu.address.model.internship.Remark;
+import seedu.address.model.internship.Role;
+import seedu.address.model.internship.Task;
+import seedu.address.model.internship.TaskList;
+
+/**
+ * Reads and writes internships in a compact binary format, used to cache the content of a JSON data file.
+ *
+ * A file starts with a header holding a magic number, the format version, and the size and CRC32 checksum of the
+ * JSON file it was written for. Then follows a dictionary of the short fields that often repeat between internships
+ * (company, contacts, location, status, role and deadlines), and the internships as length-prefixed records that
+ * refer to the dictionary by index. Strings are stored as their length followed by their UTF-8 bytes.
+ */
+final class BinaryInternshipDataFormat {
+
+    public static final String MESSAGE_CORRUPTED = "Binary snapshot is corrupted.";
+
+    static final int MAGIC = 0x43534e50;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int NO_DEADLINE = -1;
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private BinaryInternshipDataFormat() {}
+
+    /**
+     * Returns the CRC32 checksum of the file at {@code sourcePath}, which is read in chunks through one buffer.
+     */
+    static long checksumOf(Path sourcePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(sourcePath, StandardOpenOption.READ)) {
+            CRC32 checksum = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+            return checksum.getValue();
+        }
+    }
+
+    /**
+     * Writes {@code internships} to {@code filePath}, as the content of the JSON file at {@code sourcePath}.
+     */
+    static void write(Path filePath, List<Internship> internships, Path sourcePath) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Internship internship : internships) {
+            for (String value : getShortFields(internship)) {
+                dictionary.putIfAbsent(value, dictionary.size());
+            }
+            for (Task task : internship.getTaskList().getArrayListTaskList()) {
+                task.getDeadline().ifPresent(deadline -> dictionary.putIfAbsent(deadline.deadline, dictionary.size()));
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(Files.size(sourcePath));
+        out.writeLong(checksumOf(sourcePath));
+
+        out.writeInt(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(out, value);
+        }
+
+        out.writeInt(internships.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Internship internship : internships) {
+            recordBytes.reset();
+            writeRecord(record, internship, dictionary);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+        out.flush();
+
+        // the cache is rebuilt from the JSON file whenever it cannot be read, so its previous content is not kept
+        FileUtil.writeAtomically(filePath, bytes::writeTo, false);
+    }
+
+    /**
+     * Returns the fields of {@code internship} that are stored in the dictionary, in record order.
+     */
+    private static List<String> getShortFields(Internship internship) {
+        return List.of(
+                internship.getCompanyName().companyName,
+                internship.getContactName().contactName,
+                internship.getContactEmail().value,
+                internship.getContactNumber().value,
+                internship.getLocation().toString(),
+                internship.getApplicationStatus().toString(),
+                internship.getRole().role);
+    }
+
+    private static void writeRecord(DataOutputStream out, Internship internship, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeInt(internship.getId());
+        for (String value : getShortFields(internship)) {
+            out.writeInt(dictionary.get(value));
+        }
+        writeString(out, internship.getDescription().description);
+        writeString(out, internship.getRemark().value);
+
+        List<Task> tasks = internship.getTaskList().getArrayListTaskList();
+        out.writeInt(tasks.size());
+        for (Task task : tasks) {
+            writeString(out, task.task);
+            out.writeBoolean(task.isDeadlineSet());
+            out.writeInt(task.getDeadline().map(deadline -> dictionary.get(deadline.deadline)).orElse(NO_DEADLINE));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the internships in the file at {@code filePath}, which is memory-mapped rather than read in full.
+     * Returns an empty {@code Optional} if the file was not written for the current content of the JSON file at
+     * {@code sourcePath}.
+     *
+     * @throws IllegalValueException if the file is corrupted or holds invalid internships.
+     */
+    static Optional<List<Internship>> read(Path filePath, Path sourcePath)
+            throws IOException, IllegalValueException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || buffer.getLong() != Files.size(sourcePath) || buffer.getLong() != checksumOf(sourcePath)) {
+                return Optional.empty();
+            }
+
+            String[] dictionary = new String[readCount(buffer)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(buffer);
+            }
+
+            int recordCount = readCount(buffer);
+            List<Internship> internships = new ArrayList<>(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                int recordLength = readCount(buffer);
+                int recordEnd = buffer.position() + recordLength;
+                internships.add(readRecord(buffer, dictionary, recordCount));
+                check(buffer.position() == recordEnd);
+            }
+            check(!buffer.hasRemaining());
+            return Optional.of(internships);
+        } catch (RuntimeException e) {
+            // Thrown by the buffer on truncated files, and by the model on invalid values
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private static Internship readRecord(ByteBuffer buffer, String[] dictionary, int recordCount)
+            throws IllegalValueException {
+        int id = buffer.getInt();
+        check(Internship.isValidStoredId(id, recordCount));
+        CompanyName companyName = new CompanyName(readEntry(buffer, dictionary));
+        ContactName contactName = new ContactName(readEntry(buffer, dictionary));
+        ContactEmail contactEmail = new ContactEmail(readEntry(buffer, dictionary));
+        ContactNumber contactNumber = new ContactNumber(readEntry(buffer, dictionary));
+        Location location = new Location(readEntry(buffer, dictionary));
+        ApplicationStatus applicationStatus = new ApplicationStatus(readEntry(buffer, dictionary));
+        Role role = new Role(readEntry(buffer, dictionary));
+        Description description = new Description(readString(buffer));
+        Remark remark = new Remark(readString(buffer));
+
+        int taskCount = readCount(buffer);
+        ArrayList<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String task = readString(buffer);
+            boolean isDeadlineSet = buffer.get() != 0;
+            int deadlineIndex = buffer.getInt();
+            Map<String, String> deadline = deadlineIndex == NO_DEADLINE
+                    ? null
+                    : new HashMap<>(Collections.singletonMap("deadline", readEntry(deadlineIndex, dictionary)));
+            tasks.add(new Task(task, deadline, isDeadlineSet));
+        }
+
+        return new Internship(id, companyName, contactName, contactEmail, contactNumber, location, applicationStatus,
+                description, role, remark, new TaskList(tasks));
+    }
+
+    private static String readEntry(ByteBuffer buffer, String[] dictionary) throws IllegalValueException {
+        return readEntry(buffer.getInt(), dictionary);
+    }
+
+    private static String readEntry(int index, String[] dictionary) throws IllegalValueException {
+        check(index >= 0 && index < dictionary.length);
+        return dictionary[index];
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        byte[] bytes = new byte[readCount(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        check(count >= 0 && count <= buffer.remaining());
+        return count;
+    }
+
+    private static void check(boolean condition) throws IllegalValueException {
+        if (!condition) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+}
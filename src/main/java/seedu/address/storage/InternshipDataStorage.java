@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.InternshipChanges;
 
 /**
  * Represents a storage for {@link seedu.address.model.InternshipData}.
@@ -48,4 +49,18 @@ public interface InternshipDataStorage {
      * @throws IOException
      */
     void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) throws IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyInternshipData}, which {@code changes} made out of the data last read from or
+     * saved to {@link #getInternshipDataFilePath()}, to that file.
+     * The default implementation ignores {@code changes} and saves the data in full.
+     *
+     * @param internshipData cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveInternshipDataChanges(ReadOnlyInternshipData internshipData, InternshipChanges changes)
+            throws IOException {
+        saveInternshipData(internshipData);
+    }
 }
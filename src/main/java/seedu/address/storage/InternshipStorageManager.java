@@ -10,6 +10,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.ReadOnlyInternshipUserPrefs;
+import seedu.address.model.internship.InternshipChanges;
 
 /**
  * Manages storage of InternshipData in local storage.
@@ -94,4 +95,14 @@ public class InternshipStorageManager implements InternshipStorage {
         internshipDataStorage.saveInternshipData(internshipData, filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void saveInternshipDataChanges(ReadOnlyInternshipData internshipData, InternshipChanges changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + internshipDataStorage.getInternshipDataFilePath());
+        internshipDataStorage.saveInternshipDataChanges(internshipData, changes);
+    }
+
 }
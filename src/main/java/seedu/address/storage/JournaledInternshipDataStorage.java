@@ -0,0 +1,373 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
+
+/**
+ * A class to access InternshipData stored as a snapshot file, written by another {@code InternshipDataStorage},
+ * together with a journal of the changes made since the snapshot was written.
+ *
+ * Saving changes appends one record per internship put or removed to the journal instead of rewriting the whole
+ * snapshot. The snapshot is rewritten instead when the changes replace all the internships, or when the snapshot and
+ * journal are not known to hold the data the changes were made to: before the data file is first read or saved, and
+ * after a failed write. Once the journal holds {@code maxJournalEntries} records or {@code maxJournalBytes} bytes, the
+ * snapshot is rewritten and the journal emptied. Reading loads the snapshot and replays the journal on top of it; a
+ * last record that was only partly written, as after a crash, is dropped.
+ *
+ * When the snapshot storage keeps the previous snapshot as a backup, the journal emptied by rewriting the snapshot
+ * is kept alongside that backup, so that reading the backup replays both journals and loses no saved change.
+ */
+public class JournaledInternshipDataStorage implements InternshipDataStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+    public static final String MESSAGE_CORRUPTED_RECORD = "Record %d of journal %s is corrupted.";
+
+    static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledInternshipDataStorage.class);
+    private static final char RECORD_END = '\n';
+    private static final char CHECKSUM_END = ' ';
+
+    private final InternshipDataStorage snapshotStorage;
+    private final int maxJournalEntries;
+    private final long maxJournalBytes;
+
+    // Whether the snapshot and journal hold the data last read from or saved to the data file, and the journal can be
+    // appended to
+    private boolean isJournalUsable;
+    // Whether any data was saved to the data file, after which the data read from it is no longer the latest
+    private boolean hasSaved;
+    private int journalEntryCount;
+    private long journalSize;
+
+    public JournaledInternshipDataStorage(InternshipDataStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_MAX_JOURNAL_ENTRIES, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a storage that keeps snapshots with {@code snapshotStorage}.
+     *
+     * @param maxJournalEntries number of journal records after which the snapshot is rewritten.
+     * @param maxJournalBytes size of the journal in bytes after which the snapshot is rewritten.
+     */
+    public JournaledInternshipDataStorage(InternshipDataStorage snapshotStorage, int maxJournalEntries,
+            long maxJournalBytes) {
+        requireNonNull(snapshotStorage);
+        checkArgument(maxJournalEntries > 0, "Journal must be allowed to hold at least one record.");
+        checkArgument(maxJournalBytes > 0, "Journal must be allowed to hold at least one byte.");
+        this.snapshotStorage = snapshotStorage;
+        this.maxJournalEntries = maxJournalEntries;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    /**
+     * Returns the location of the journal kept for the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getInternshipDataFilePath() {
+        return snapshotStorage.getInternshipDataFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData() throws DataLoadingException {
+        return readInternshipData(getInternshipDataFilePath());
+    }
+
+    /**
+     * Similar to {@link #readInternshipData()}.
+     * Reading the backup of the snapshot at {@link #getInternshipDataFilePath()} also replays the journal of that
+     * snapshot, since the backup together with its own journal holds what the snapshot was written from. Reading the
+     * snapshot at {@link #getInternshipDataFilePath()} before anything is saved to it takes the data read as the data
+     * that changes saved next are made to.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or the journal failed.
+     */
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isDataFile = filePath.equals(getInternshipDataFilePath());
+        Optional<ReadOnlyInternshipData> snapshot = snapshotStorage.readInternshipData(filePath);
+        List<Path> journalPaths = new ArrayList<>();
+        journalPaths.add(getJournalFilePath(filePath));
+        if (filePath.equals(FileUtil.getBackupFilePath(getInternshipDataFilePath()))) {
+            journalPaths.add(getJournalFilePath(getInternshipDataFilePath()));
+        }
+        journalPaths.removeIf(journalPath -> !Files.exists(journalPath));
+        if (journalPaths.isEmpty()) {
+            if (isDataFile) {
+                seed(snapshot.isPresent(), 0, 0);
+            }
+            return snapshot;
+        }
+
+        Map<Integer, Internship> internships = new LinkedHashMap<>();
+        snapshot.ifPresent(data -> data.getInternshipList().forEach(i -> internships.put(i.getId(), i)));
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        boolean isComplete = true;
+        long size = 0;
+        for (Path journalPath : journalPaths) {
+            Journal journal = loadJournal(journalPath);
+            entries.addAll(journal.entries);
+            isComplete &= journal.isComplete;
+            size += journal.size;
+        }
+        Optional<ReadOnlyInternshipData> replayed;
+        try {
+            // every entry adds at most one internship
+            int internshipCount = internships.size() + entries.size();
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(internships, internshipCount);
+            }
+            replayed = Optional.of(JsonSerializableInternshipData.toInternshipData(
+                    new ArrayList<>(internships.values())));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        if (isDataFile) {
+            // a record appended after a partly written one would be corrupted along with it
+            seed(isComplete, entries.size(), size);
+        }
+        return replayed;
+    }
+
+    /**
+     * Takes the data just read from the data file as the data that changes saved next are made to, unless data was
+     * already saved to it. Its journal holds {@code entryCount} records in {@code size} bytes.
+     *
+     * @param isJournalUsable whether data was read and its journal can be appended to.
+     */
+    private void seed(boolean isJournalUsable, int entryCount, long size) {
+        if (hasSaved) {
+            return;
+        }
+        this.isJournalUsable = isJournalUsable;
+        journalEntryCount = entryCount;
+        journalSize = size;
+    }
+
+    private static Journal loadJournal(Path journalPath) throws DataLoadingException {
+        try {
+            return readJournal(journalPath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the journal at {@code journalPath}, with its entries in the order they were written.
+     *
+     * @throws IllegalValueException if any record other than the last one is corrupted.
+     */
+    private static Journal readJournal(Path journalPath) throws IOException, IllegalValueException {
+        byte[] bytes = Files.readAllBytes(journalPath);
+        String journal = new String(bytes, StandardCharsets.UTF_8);
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+        int recordStart = 0;
+        while (recordStart < journal.length()) {
+            int recordEnd = journal.indexOf(RECORD_END, recordStart);
+            boolean isLastRecord = recordEnd < 0 || recordEnd == journal.length() - 1;
+            Optional<JsonAdaptedJournalEntry> entry = recordEnd < 0
+                    ? Optional.empty()
+                    : parseRecord(journal.substring(recordStart, recordEnd));
+            if (!entry.isPresent()) {
+                if (!isLastRecord) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, entries.size() + 1,
+                            journalPath));
+                }
+                logger.warning("Dropping incomplete last record of journal " + journalPath);
+                return new Journal(entries, bytes.length, false);
+            }
+            entries.add(entry.get());
+            recordStart = recordEnd + 1;
+        }
+        return new Journal(entries, bytes.length, true);
+    }
+
+    /**
+     * Returns the entry in {@code record}, or an empty {@code Optional} if the record is incomplete or corrupted.
+     */
+    private static Optional<JsonAdaptedJournalEntry> parseRecord(String record) {
+        int checksumEnd = record.indexOf(CHECKSUM_END);
+        if (checksumEnd < 0) {
+            return Optional.empty();
+        }
+
+        String json = record.substring(checksumEnd + 1);
+        if (!record.substring(0, checksumEnd).equals(checksumOf(json))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String checksumOf(String json) {
+        CRC32 checksum = new CRC32();
+        checksum.update(json.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(checksum.getValue());
+    }
+
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData) throws IOException {
+        saveInternshipData(internshipData, getInternshipDataFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveInternshipData(ReadOnlyInternshipData)}.
+     * Data saved in full is written out as the snapshot, which empties its journal.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) throws IOException {
+        requireNonNull(internshipData);
+        requireNonNull(filePath);
+        if (!filePath.equals(getInternshipDataFilePath())) {
+            snapshotStorage.saveInternshipData(internshipData, filePath);
+            return;
+        }
+        writeSnapshot(internshipData, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Appends one record per change to the journal, unless the changes replace all the internships or the journal
+     * cannot be appended to, in which case {@code internshipData} is written out in full as the snapshot.
+     */
+    @Override
+    public void saveInternshipDataChanges(ReadOnlyInternshipData internshipData, InternshipChanges changes)
+            throws IOException {
+        requireAllNonNull(internshipData, changes);
+        Path filePath = getInternshipDataFilePath();
+        if (!isJournalUsable || changes.replacesAll()) {
+            writeSnapshot(internshipData, filePath);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (InternshipChanges.Change change : changes.getChanges()) {
+            entries.add(change.getInternship()
+                    .map(JsonAdaptedJournalEntry::put)
+                    .orElseGet(() -> JsonAdaptedJournalEntry.delete(change.getId())));
+        }
+        appendToJournal(entries, getJournalFilePath(filePath));
+        if (journalEntryCount >= maxJournalEntries || journalSize >= maxJournalBytes) {
+            writeSnapshot(internshipData, filePath);
+        }
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries, Path journalPath) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            String json = JsonUtil.toCompactJsonString(entry);
+            records.append(checksumOf(json)).append(CHECKSUM_END).append(json).append(RECORD_END);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        int size = buffer.remaining();
+        // The journal may end in a partial record if the write fails, so the next save writes a new snapshot instead
+        hasSaved = true;
+        isJournalUsable = false;
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+        isJournalUsable = true;
+        journalEntryCount += entries.size();
+        journalSize += size;
+    }
+
+    /**
+     * Writes {@code internshipData} out in full as the snapshot, and empties its journal.
+     */
+    private void writeSnapshot(ReadOnlyInternshipData internshipData, Path filePath) throws IOException {
+        logger.fine("Writing snapshot of internship data after " + journalEntryCount + " journal entries");
+        hasSaved = true;
+        isJournalUsable = false;
+        snapshotStorage.saveInternshipData(internshipData, filePath);
+        moveJournalToBackup(filePath);
+
+        isJournalUsable = true;
+        journalEntryCount = 0;
+        journalSize = 0;
+    }
+
+    /**
+     * Moves the journal of the snapshot at {@code filePath}, just rewritten, to the backup of the previous snapshot,
+     * whose changes it holds. Without such a backup the journal is deleted.
+     */
+    private static void moveJournalToBackup(Path filePath) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        Path backupJournalPath = getJournalFilePath(backupFilePath);
+        if (!Files.exists(backupFilePath)) {
+            Files.deleteIfExists(journalPath);
+            Files.deleteIfExists(backupJournalPath);
+        } else if (Files.exists(journalPath)) {
+            Files.move(journalPath, backupJournalPath, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(backupJournalPath);
+        }
+    }
+
+    /**
+     * The entries read from a journal, and whether its last record was complete.
+     */
+    private static class Journal {
+        private final List<JsonAdaptedJournalEntry> entries;
+        private final long size;
+        private final boolean isComplete;
+
+        Journal(List<JsonAdaptedJournalEntry> entries, long size, boolean isComplete) {
+            this.entries = entries;
+            this.size = size;
+            this.isComplete = isComplete;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.internship.ApplicationStatus;
 import seedu.address.model.internship.CompanyName;
@@ -24,6 +26,9 @@ import seedu.address.model.internship.TaskList;
  */
 public class JsonAdaptedInternship {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Internship's %s field is missing!";
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedInternship.class);
+
+    private final Integer id;
     private final String companyName;
     private final String contactName;
     private final String contactEmail;
@@ -37,9 +42,11 @@ public class JsonAdaptedInternship {
 
     /**
      * Constructs a {@code JsonAdaptedInternship} with the given internship details.
+     * {@code id} may be null for records saved before ids were persisted; such records are given a fresh id.
      */
     @JsonCreator
-    public JsonAdaptedInternship(@JsonProperty("companyName") String companyName,
+    public JsonAdaptedInternship(@JsonProperty("id") Integer id,
+                                 @JsonProperty("companyName") String companyName,
                                  @JsonProperty("contactName") String contactName,
                                  @JsonProperty("contactEmail") String contactEmail,
                                  @JsonProperty("contactNumber") String contactNumber,
@@ -49,6 +56,7 @@ public class JsonAdaptedInternship {
                                  @JsonProperty("role") String role,
                                  @JsonProperty("remark") String remark,
                                  @JsonProperty("taskList") ArrayList<Task> taskList) {
+        this.id = id;
         this.companyName = companyName;
         this.contactName = contactName;
         this.contactEmail = contactEmail;
@@ -61,10 +69,22 @@ public class JsonAdaptedInternship {
         this.taskList = taskList;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedInternship} without an id with the given internship details.
+     */
+    public JsonAdaptedInternship(String companyName, String contactName, String contactEmail, String contactNumber,
+                                 String location, String applicationStatus, String description, String role,
+                                 String remark, ArrayList<Task> taskList) {
+        this(null, companyName, contactName, contactEmail, contactNumber, location, applicationStatus, description,
+                role, remark, taskList);
+    }
+
     /**
      * Converts a given {@code Internship} into this class for Jackson use.
      */
     public JsonAdaptedInternship(Internship source) {
+        id = source.getId();
+
         // Mandatory fields
         companyName = source.getCompanyName().companyName;
         contactName = source.getContactName().contactName;
@@ -88,7 +108,53 @@ public class JsonAdaptedInternship {
      * @throws IllegalValueException if there were any data constraints violated in the adapted internship.
      */
     public Internship toModelType() throws IllegalValueException {
+        return toModelType(1);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, for an internship read together with {@code internshipCount} - 1 others,
+     * which bounds the id it may have.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted internship.
+     */
+    public Internship toModelType(int internshipCount) throws IllegalValueException {
+        if (id == null) {
+            return new Internship(
+                    getValidCompanyName(),
+                    getValidContactName(),
+                    getValidContactEmail(),
+                    getValidContactNumber(),
+                    getValidLocation(),
+                    getValidApplicationStatus(),
+                    getValidDescription(),
+                    getValidRole(),
+                    getValidRemark(),
+                    getValidTaskList()
+            );
+        }
+        return toModelTypeWithId(getValidId(internshipCount));
+    }
+
+    /**
+     * Similar to {@link #toModelType(int)}, but an internship that {@link #needsFreshId(int) needs a fresh id} is
+     * given {@code freshId}, which no other internship read together with it may have.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted internship.
+     */
+    public Internship toModelType(int internshipCount, int freshId) throws IllegalValueException {
+        if (!needsFreshId(internshipCount)) {
+            return toModelTypeWithId(getValidId(internshipCount));
+        }
+        if (id != null) {
+            logger.warning("Internship id " + id + " is far larger than the number of internships, renumbering it to "
+                    + freshId);
+        }
+        return toModelTypeWithId(freshId);
+    }
+
+    private Internship toModelTypeWithId(int id) throws IllegalValueException {
         return new Internship(
+                id,
                 getValidCompanyName(),
                 getValidContactName(),
                 getValidContactEmail(),
@@ -102,6 +168,36 @@ public class JsonAdaptedInternship {
         );
     }
 
+    /**
+     * Returns true if this adapted internship carries a persisted id.
+     */
+    public boolean hasId() {
+        return id != null;
+    }
+
+    /**
+     * Returns true if this adapted internship is given a fresh id when read together with {@code internshipCount} - 1
+     * others in bulk: if it has no persisted id, or one that is far larger than the number of internships.
+     */
+    boolean needsFreshId(int internshipCount) {
+        return id == null || id >= 0 && !Internship.isValidStoredId(id, internshipCount);
+    }
+
+    /**
+     * Returns the persisted id of this adapted internship if it is valid for an internship read together with
+     * {@code internshipCount} - 1 others, or -1 otherwise.
+     */
+    int getStoredId(int internshipCount) {
+        return id != null && Internship.isValidStoredId(id, internshipCount) ? id : -1;
+    }
+
+    private int getValidId(int internshipCount) throws IllegalValueException {
+        if (!Internship.isValidStoredId(id, internshipCount)) {
+            throw new IllegalValueException(Internship.MESSAGE_ID_CONSTRAINTS);
+        }
+        return id;
+    }
+
     private CompanyName getValidCompanyName() throws IllegalValueException {
         String companyName = this.companyName;
         if (companyName == null) {
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.internship.Internship;
+
+/**
+ * Jackson-friendly version of a change to the internship data, as recorded in the journal of
+ * {@link JournaledInternshipDataStorage}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is neither a valid put nor a valid delete.";
+
+    static final String OPERATION_PUT = "put";
+    static final String OPERATION_DELETE = "delete";
+
+    private final String operation;
+    private final Integer id;
+    private final JsonAdaptedInternship internship;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("id") Integer id,
+            @JsonProperty("internship") JsonAdaptedInternship internship) {
+        this.operation = operation;
+        this.id = id;
+        this.internship = internship;
+    }
+
+    /**
+     * Returns an entry that adds {@code internship}, or replaces the internship with the same id.
+     */
+    static JsonAdaptedJournalEntry put(Internship internship) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, internship.getId(), new JsonAdaptedInternship(internship));
+    }
+
+    /**
+     * Returns an entry that removes the internship with the given {@code id}.
+     */
+    static JsonAdaptedJournalEntry delete(int id) {
+        return new JsonAdaptedJournalEntry(OPERATION_DELETE, id, null);
+    }
+
+    /**
+     * Applies this change to {@code internships}, which are keyed by id and number at most {@code internshipCount}
+     * once every change has been applied.
+     * Internships that are added are placed after all others, while replaced ones keep their place.
+     *
+     * @throws IllegalValueException if this entry does not describe a valid change.
+     */
+    void applyTo(Map<Integer, Internship> internships, int internshipCount) throws IllegalValueException {
+        if (OPERATION_DELETE.equals(operation) && id != null && internship == null) {
+            internships.remove(id);
+            return;
+        }
+        if (!OPERATION_PUT.equals(operation) || internship == null || !internship.hasId()) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+
+        Internship modelInternship = internship.toModelType(internshipCount);
+        if (id == null || id != modelInternship.getId()) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        internships.put(id, modelInternship);
+    }
+}
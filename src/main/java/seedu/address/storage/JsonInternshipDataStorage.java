@@ -22,9 +22,19 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonInternshipDataStorage.class);
 
     private Path filePath;
+    private final int parallelLoadThreshold;
 
     public JsonInternshipDataStorage(Path filePath) {
+        this(filePath, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that converts and validates the records it reads
+     * in parallel once there are at least {@code parallelLoadThreshold} of them.
+     */
+    public JsonInternshipDataStorage(Path filePath, int parallelLoadThreshold) {
         this.filePath = filePath;
+        this.parallelLoadThreshold = parallelLoadThreshold;
     }
 
     public Path getInternshipDataFilePath() {
@@ -50,7 +60,7 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
             return Optional.empty();
         }
         try {
-            return Optional.of(jsonInternshipData.get().toModelType());
+            return Optional.of(jsonInternshipData.get().toModelType(parallelLoadThreshold));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,7 +83,7 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
     public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) throws IOException {
         requireNonNull(internshipData);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInternshipData(internshipData), filePath);
+        FileUtil.writeToFileAtomically(filePath,
+                JsonUtil.toJsonString(new JsonSerializableInternshipData(internshipData)));
     }
 }
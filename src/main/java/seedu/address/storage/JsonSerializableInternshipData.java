@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +14,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.InternshipData;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.exceptions.DuplicateInternshipException;
+import seedu.address.model.internship.exceptions.DuplicateInternshipIdException;
 
 /**
  * An Immutable InternshipData that is serializable to JSON format.
@@ -19,6 +23,7 @@ import seedu.address.model.internship.Internship;
 @JsonRootName(value = "internshipdata")
 public class JsonSerializableInternshipData {
     public static final String MESSAGE_DUPLICATE_INTERNSHIP = "Internships list contains duplicate internship(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Internships list contains duplicate internship id(s).";
 
     private final List<JsonAdaptedInternship> internships = new ArrayList<>();
 
@@ -42,18 +47,96 @@ public class JsonSerializableInternshipData {
 
     /**
      * Converts this internshipdata into the model's {@code InternshipData} object.
+     * All records are validated first and then loaded in bulk, so that duplicates are found in a single
+     * hashed pass and the loaded list is published at once.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public InternshipData toModelType() throws IllegalValueException {
+        return toModelType(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but converts and validates the records in parallel on the common
+     * fork-join pool if there are at least {@code parallelThreshold} of them.
+     * The records are still merged in file order, and the same exception is thrown as by the sequential
+     * conversion, i.e. the one for the first invalid record.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public InternshipData toModelType(int parallelThreshold) throws IllegalValueException {
+        int internshipCount = internships.size();
+        int maxStoredId = -1;
+        int freshIdCount = 0;
+        for (JsonAdaptedInternship record : internships) {
+            maxStoredId = Math.max(maxStoredId, record.getStoredId(internshipCount));
+            freshIdCount += record.needsFreshId(internshipCount) ? 1 : 0;
+        }
+
+        // Records without a persisted id, or with one far larger than the number of records, are given ids above
+        // every valid one in the file, so that they can be converted in file order without clashing with an id that
+        // appears later in the file.
+        Internship[] converted = new Internship[internshipCount];
+        int firstFreshId = freshIdCount == 0 ? 0 : Internship.reserveIds(freshIdCount, maxStoredId);
+        convertRecords(internships, internshipCount, firstFreshId, converted,
+                internshipCount >= parallelThreshold);
+        return toInternshipData(Arrays.asList(converted));
+    }
+
+    /**
+     * Returns an {@code InternshipData} holding {@code internships}, loaded in bulk.
+     *
+     * @throws IllegalValueException if {@code internships} contains duplicate internships or ids.
+     */
+    static InternshipData toInternshipData(List<Internship> internships) throws IllegalValueException {
         InternshipData internshipData = new InternshipData();
-        for (JsonAdaptedInternship jsonAdaptedInternship : internships) {
-            Internship internship = jsonAdaptedInternship.toModelType();
-            if (internshipData.hasInternship(internship)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_INTERNSHIP);
-            }
-            internshipData.addInternship(internship);
+        try {
+            internshipData.setInternships(internships);
+        } catch (DuplicateInternshipIdException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+        } catch (DuplicateInternshipException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_INTERNSHIP);
         }
         return internshipData;
     }
+
+    /**
+     * Converts {@code records} into {@code converted}, at the same positions as in {@code records}. The records are
+     * part of {@code internshipCount} records read together. Records that need a fresh id are given the ids from
+     * {@code firstFreshId} on, in order.
+     *
+     * @return the id after the last one given to a record that needs a fresh id.
+     * @throws IllegalValueException for the first of the records, in order, that is invalid.
+     */
+    static int convertRecords(List<JsonAdaptedInternship> records, int internshipCount, int firstFreshId,
+                              Internship[] converted, boolean isParallel) throws IllegalValueException {
+        int[] freshIds = new int[records.size()];
+        int nextFreshId = firstFreshId;
+        for (int i = 0; i < records.size(); i++) {
+            freshIds[i] = nextFreshId;
+            nextFreshId += records.get(i).needsFreshId(internshipCount) ? 1 : 0;
+        }
+
+        if (!isParallel) {
+            for (int i = 0; i < records.size(); i++) {
+                converted[i] = records.get(i).toModelType(internshipCount, freshIds[i]);
+            }
+            return nextFreshId;
+        }
+
+        IllegalValueException[] errors = new IllegalValueException[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = records.get(i).toModelType(internshipCount, freshIds[i]);
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return nextFreshId;
+    }
 }
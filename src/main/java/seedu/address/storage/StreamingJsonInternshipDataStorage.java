@@ -0,0 +1,321 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+
+/**
+ * A class to access InternshipData data stored as a json file on the hard disk, one internship at a time.
+ *
+ * The file has the same format as the one written by {@link JsonInternshipDataStorage}, but is never held in
+ * memory as a whole: internships are parsed from, and written to, buffered file channels record by record, so
+ * that apart from the model itself only a bounded batch of records is in memory at any point. Reading makes a
+ * first pass over the file that only counts the records and reads their ids, without binding any of them, so that
+ * records that need a fresh id can be given one as they are read.
+ */
+public class StreamingJsonInternshipDataStorage implements InternshipDataStorage {
+
+    /** Number of records read ahead before they are converted to the model's {@code Internship}s. */
+    static final int BATCH_SIZE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(StreamingJsonInternshipDataStorage.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String INTERNSHIPS_FIELD = "internships";
+    private static final String ID_FIELD = "id";
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final int parallelLoadThreshold;
+
+    public StreamingJsonInternshipDataStorage(Path filePath) {
+        this(filePath, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param isCompact whether saved files are written without whitespace instead of pretty-printed.
+     * @param parallelLoadThreshold number of records read after which batches of records are converted and
+     *     validated in parallel.
+     */
+    public StreamingJsonInternshipDataStorage(Path filePath, boolean isCompact, int parallelLoadThreshold) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.parallelLoadThreshold = parallelLoadThreshold;
+    }
+
+    @Override
+    public Path getInternshipDataFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData() throws DataLoadingException {
+        return readInternshipData(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternshipData()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            RecordSummary summary = parse(filePath, StreamingJsonInternshipDataStorage::summarizeRecords);
+            return Optional.of(JsonSerializableInternshipData.toInternshipData(
+                    parse(filePath, parser -> readInternships(parser, summary))));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the result of {@code parsing} the file at {@code filePath}, which is read through a buffered channel.
+     */
+    private static <T> T parse(Path filePath, Parsing<T> parsing) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+                JsonParser parser = JsonUtil.createParser(
+                        new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE))) {
+            return parsing.parse(parser);
+        }
+    }
+
+    /**
+     * Returns the number of internships in the document at {@code parser}, how many of them have no persisted id, and
+     * their persisted ids, reading only the ids and skipping over all other fields.
+     */
+    private static RecordSummary summarizeRecords(JsonParser parser) throws IOException, IllegalValueException {
+        RecordSummary summary = new RecordSummary();
+        forEachRecord(parser, () -> {
+            summary.internshipCount++;
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                // not an internship, which the second pass reports
+                parser.skipChildren();
+                return;
+            }
+
+            boolean hasId = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (ID_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                    // as lenient as binding the id, which is what the second pass does
+                    hasId = true;
+                    summary.addId(parser.getValueAsInt(-1));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            summary.missingIdCount += hasId ? 0 : 1;
+        });
+        return summary;
+    }
+
+    /**
+     * Reads the internships of the document at {@code parser}, in file order, as summarized by {@code summary}.
+     * Records that need a fresh id are given one as they are read, so that the exception for the first
+     * invalid record is the one thrown, as in {@link JsonSerializableInternshipData#toModelType()}.
+     */
+    private List<Internship> readInternships(JsonParser parser, RecordSummary summary)
+            throws IOException, IllegalValueException {
+        List<Internship> internships = new ArrayList<>(summary.internshipCount);
+        RecordBatch batch = new RecordBatch(summary.internshipCount, summary.reserveFreshIds());
+
+        forEachRecord(parser, () -> {
+            batch.add(JsonUtil.readValue(parser, JsonAdaptedInternship.class));
+            if (batch.size() == BATCH_SIZE) {
+                batch.convertInto(internships, internships.size() + BATCH_SIZE >= parallelLoadThreshold);
+            }
+        });
+        batch.convertInto(internships, internships.size() + batch.size() >= parallelLoadThreshold);
+        return internships;
+    }
+
+    /**
+     * Calls {@code recordReader} with {@code parser} at the start of each internship of the document at
+     * {@code parser}, in file order. The reader must move the parser to the end of the internship.
+     */
+    private static void forEachRecord(JsonParser parser, RecordReader recordReader)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!INTERNSHIPS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            expect(parser, valueToken, JsonToken.START_ARRAY);
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                recordReader.read();
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData) throws IOException {
+        saveInternshipData(internshipData, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternshipData(ReadOnlyInternshipData)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) throws IOException {
+        requireNonNull(internshipData);
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                generator.writeStartObject();
+                generator.writeFieldName(INTERNSHIPS_FIELD);
+                generator.writeStartArray();
+                for (Internship internship : internshipData.getInternshipList()) {
+                    JsonUtil.writeValue(generator, new JsonAdaptedInternship(internship));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Parses a JSON document.
+     */
+    @FunctionalInterface
+    private interface Parsing<T> {
+        T parse(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Reads an internship from the parser given to {@link #forEachRecord(JsonParser, RecordReader)}.
+     */
+    @FunctionalInterface
+    private interface RecordReader {
+        void read() throws IOException, IllegalValueException;
+    }
+
+    /**
+     * What the first pass over a file finds out about its records.
+     */
+    private static class RecordSummary {
+        private int internshipCount;
+        private int missingIdCount;
+        // The largest persisted id that is valid however few records there are
+        private int maxId = -1;
+        // The persisted ids that may be too large for the number of records, which is known only after the first pass
+        private int[] largeIds = new int[0];
+        private int largeIdCount;
+
+        void addId(int id) {
+            if (id <= Internship.getMaxStoredId(0)) {
+                maxId = Math.max(maxId, id);
+                return;
+            }
+            if (largeIdCount == largeIds.length) {
+                largeIds = Arrays.copyOf(largeIds, Math.max(16, 2 * largeIds.length));
+            }
+            largeIds[largeIdCount++] = id;
+        }
+
+        /**
+         * Returns the first of the fresh ids for the records without a persisted id, or with one far larger than the
+         * number of records, which are given ids above every valid one in the file.
+         */
+        int reserveFreshIds() {
+            int freshIdCount = missingIdCount;
+            int maxStoredId = maxId;
+            for (int i = 0; i < largeIdCount; i++) {
+                if (Internship.isValidStoredId(largeIds[i], internshipCount)) {
+                    maxStoredId = Math.max(maxStoredId, largeIds[i]);
+                } else {
+                    freshIdCount++;
+                }
+            }
+            return freshIdCount == 0 ? 0 : Internship.reserveIds(freshIdCount, maxStoredId);
+        }
+    }
+
+    /**
+     * Records read from the file but not yet converted.
+     */
+    private static class RecordBatch {
+        private final List<JsonAdaptedInternship> records = new ArrayList<>();
+        private final int internshipCount;
+        private int nextFreshId;
+
+        /**
+         * Creates a batch for records out of {@code internshipCount}, in which records that need a fresh id are given
+         * the ids from {@code firstFreshId} on.
+         */
+        RecordBatch(int internshipCount, int firstFreshId) {
+            this.internshipCount = internshipCount;
+            this.nextFreshId = firstFreshId;
+        }
+
+        void add(JsonAdaptedInternship record) {
+            records.add(record);
+        }
+
+        int size() {
+            return records.size();
+        }
+
+        /**
+         * Converts the records into the model's internships, appends them to {@code internships} and empties this
+         * batch.
+         */
+        void convertInto(List<Internship> internships, boolean isParallel) throws IllegalValueException {
+            Internship[] converted = new Internship[records.size()];
+            nextFreshId = JsonSerializableInternshipData.convertRecords(records, internshipCount, nextFreshId,
+                    converted, isParallel);
+            internships.addAll(Arrays.asList(converted));
+            records.clear();
+        }
+    }
+}
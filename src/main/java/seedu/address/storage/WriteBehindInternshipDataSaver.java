@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
+
+/**
+ * Saves internship data to an {@code InternshipDataStorage} on a single background thread.
+ *
+ * The saver is handed the changes made to the internship data rather than copies of it, and keeps its own view of the
+ * data, which it brings up to date on the writer thread before each write. Changes that arrive while earlier ones
+ * are still being written are appended to each other, so a burst of saves results in at most one more write.
+ */
+public class WriteBehindInternshipDataSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindInternshipDataSaver.class);
+    private static final String THREAD_NAME = "internship-data-writer";
+
+    private final InternshipDataStorage storage;
+    private final ExecutorService writer;
+    // The internships as of the changes last written, keyed by id in the order of the list; writer thread only
+    private final Map<Integer, Internship> internships = new LinkedHashMap<>();
+    private final Object pendingSaveLock = new Object();
+    private PendingSave pendingSave;
+    private volatile Consumer<IOException> errorHandler = e -> { };
+
+    /**
+     * Creates a saver that writes to {@code storage} the changes made to {@code internshipData}, as it is now.
+     */
+    public WriteBehindInternshipDataSaver(InternshipDataStorage storage, ReadOnlyInternshipData internshipData) {
+        requireAllNonNull(storage, internshipData);
+        this.storage = storage;
+        internshipData.getInternshipList().forEach(internship -> internships.put(internship.getId(), internship));
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the exception of every failed write. The handler is called on the writer
+     * thread.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Schedules the internship data, with {@code changes} made to it, to be written, together with any changes that
+     * have not started being written yet. The changes must not change after they are handed over.
+     */
+    public void save(InternshipChanges changes) {
+        save(changes, () -> { });
+    }
+
+    /**
+     * Similar to {@link #save(InternshipChanges)}, but runs {@code onWritten} on the writer thread once
+     * {@code changes} have been written. It is not run if the write fails, or if later changes are handed over
+     * before the write starts, in which case only the {@code onWritten} of the latest changes is run.
+     */
+    public void save(InternshipChanges changes, Runnable onWritten) {
+        requireAllNonNull(changes, onWritten);
+        boolean isAlreadyScheduled;
+        synchronized (pendingSaveLock) {
+            isAlreadyScheduled = pendingSave != null;
+            if (isAlreadyScheduled) {
+                pendingSave.changes.append(changes);
+                pendingSave.onWritten = onWritten;
+            } else {
+                pendingSave = new PendingSave(changes, onWritten);
+            }
+        }
+        if (!isAlreadyScheduled) {
+            writer.execute(this::writePendingChanges);
+        }
+    }
+
+    /**
+     * Blocks until every change handed to {@link #save(InternshipChanges)} before this call has been written or
+     * has failed to be.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for internship data to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes out the pending changes, if any, and stops the writer thread. No more changes can be saved afterwards.
+     */
+    public void close() {
+        flush();
+        writer.shutdown();
+    }
+
+    private void writePendingChanges() {
+        PendingSave save;
+        synchronized (pendingSaveLock) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+        if (save == null) {
+            return;
+        }
+
+        // The view is brought up to date even if the write fails, so that the next write saves these changes too
+        save.changes.applyTo(internships);
+        try {
+            storage.saveInternshipDataChanges(new SavedInternshipData(), save.changes);
+        } catch (IOException e) {
+            logger.warning("Failed to save internship data " + StringUtil.getDetails(e));
+            errorHandler.accept(e);
+            return;
+        }
+        save.onWritten.run();
+    }
+
+    /**
+     * The internship data as seen by the writer thread during one write. Its list is only built if the storage
+     * reads it, as when the data is written out in full.
+     */
+    private class SavedInternshipData implements ReadOnlyInternshipData {
+        private ObservableList<Internship> internshipList;
+
+        @Override
+        public ObservableList<Internship> getInternshipList() {
+            if (internshipList == null) {
+                internshipList = FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(internships.values()));
+            }
+            return internshipList;
+        }
+    }
+
+    /**
+     * Changes waiting to be written, and what to run once they are.
+     */
+    private static class PendingSave {
+        private final InternshipChanges changes;
+        private Runnable onWritten;
+
+        PendingSave(InternshipChanges changes, Runnable onWritten) {
+            this.changes = changes;
+            this.onWritten = onWritten;
+        }
+    }
+}
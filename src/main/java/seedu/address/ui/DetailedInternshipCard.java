@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -55,12 +57,29 @@ public class DetailedInternshipCard extends UiPart<Region> {
     protected Label tasks;
 
     /**
-     * Creates a {@code InternshipCard} with the given {@code Internship}.
+     * Creates an empty {@code DetailedInternshipCard}, which displays nothing until it is bound to an
+     * {@code Internship}.
      */
-    public DetailedInternshipCard(Internship internship) {
+    public DetailedInternshipCard() {
         super(FXML);
         setStyles(true, companyNameAndRole, status, description, loc,
                 cName, cEmail, cNum, remark, tasks);
+    }
+
+    /**
+     * Creates a {@code DetailedInternshipCard} with the given {@code Internship}.
+     */
+    public DetailedInternshipCard(Internship internship) {
+        this();
+        bind(internship);
+    }
+
+    /**
+     * Displays the given {@code Internship} on this card, in place of what it displayed before.
+     * Only the text of the labels changes, so a card can be reused for any number of internships.
+     */
+    public void bind(Internship internship) {
+        requireNonNull(internship);
         setCompanyNameAndRoleLabel(internship.getCompanyName(), internship.getRole());
         setStatusLabel(internship.getApplicationStatus());
         setDescriptionLabel(internship.getDescription());
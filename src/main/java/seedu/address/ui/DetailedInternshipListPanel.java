@@ -28,9 +28,13 @@ public class DetailedInternshipListPanel extends UiPart<Region> {
         return internshipListView;
     }
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a {@code InternshipCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a
+     * {@code DetailedInternshipCard}.
+     * The cell creates its card once, and binds it to whichever internship the cell is reused for.
      */
     class InternshipListViewCell extends ListCell<Internship> {
+        private DetailedInternshipCard card;
+
         @Override
         protected void updateItem(Internship internship, boolean empty) {
             super.updateItem(internship, empty);
@@ -39,7 +43,11 @@ public class DetailedInternshipListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DetailedInternshipCard(internship).getRoot());
+                if (card == null) {
+                    card = new DetailedInternshipCard();
+                }
+                card.bind(internship);
+                setGraphic(card.getRoot());
             }
         }
     }
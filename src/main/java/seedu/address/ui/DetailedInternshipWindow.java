@@ -83,8 +83,12 @@ public class DetailedInternshipWindow extends UiPart<Stage> {
 
     /**
      * Populates the detailed internship window with the selected internship details.
+     * The panel is only created the first time, as it shows whichever internship is selected from then on.
      */
     public void populateInternshipDetails() {
+        if (selectedInternshipListPanel != null) {
+            return;
+        }
         selectedInternshipListPanel = new DetailedInternshipListPanel(logic.getSelectedInternship());
         selectedInternshipListPanelPlaceholder.getChildren().add(selectedInternshipListPanel.getRoot());
     }
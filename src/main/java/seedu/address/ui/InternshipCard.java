@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -28,7 +30,7 @@ public class InternshipCard extends UiPart<Region> {
     protected static final String STYLE_WITH_FONT_COLOUR_LIGHTSEAGREEN = "-fx-text-fill: #20b2aa;";
     private static final String FXML = "InternshipCard.fxml";
 
-    public final Internship internship;
+    private Internship internship;
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -55,13 +57,27 @@ public class InternshipCard extends UiPart<Region> {
     @FXML
     private Label tasks;
 
-
+    /**
+     * Creates an empty {@code InternshipCard}, which displays nothing until it is bound to an {@code Internship}.
+     */
+    public InternshipCard() {
+        super(FXML);
+    }
 
     /**
      * Creates a {@code InternshipCard} with the given {@code Internship} and index to display.
      */
     public InternshipCard(Internship internship, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(internship, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Internship} and index on this card, in place of what it displayed before.
+     * Only the text and styles of the labels change, so a card can be reused for any number of internships.
+     */
+    public void bind(Internship internship, int displayedIndex) {
+        requireNonNull(internship);
         this.internship = internship;
 
         id.setText(displayedIndex + ". ");
@@ -172,6 +188,10 @@ public class InternshipCard extends UiPart<Region> {
         this.tasks.setText("Tasks:\n" + tasks.toString());
     }
 
+    public Internship getInternship() {
+        return internship;
+    }
+
     protected Label getIdLabel() {
         return id;
     }
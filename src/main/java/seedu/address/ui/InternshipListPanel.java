@@ -31,6 +31,10 @@ public class InternshipListPanel extends UiPart<Region> {
         internshipListView.setCellFactory(listView -> new InternshipListViewCell());
     }
 
+    protected ListView<Internship> getInternshipListView() {
+        return internshipListView;
+    }
+
     /**
      * Handles the event when the user clicks on an internship in the list.
      * InternshipListViewCell updates the lastSelectedInternship whenever a cell is pressed. All we have to do
@@ -47,8 +51,11 @@ public class InternshipListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a {@code InternshipCard}.
+     * The cell creates its card once, and binds it to whichever internship the cell is reused for.
      */
     class InternshipListViewCell extends ListCell<Internship> {
+        private InternshipCard card;
+
         public InternshipListViewCell() {
             setOnMousePressed((MouseEvent event) -> {
                 lastSelectedInternship = getItem();
@@ -64,7 +71,11 @@ public class InternshipListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new InternshipCard(internship, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new InternshipCard();
+                }
+                card.bind(internship, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,50 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_newFile_fileWrittenWithoutBackup() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_previousContentBackedUp() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+        FileUtil.writeToFileAtomically(file, "third");
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+        assertEquals(2, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_backupUnchangedByLaterWrites() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+        Files.writeString(file, "overwritten in place");
+
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("dummy IO exception");
+        }));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+        assertEquals(1, Files.list(testFolder).count());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX;
 import static seedu.address.logic.InternshipMessages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -9,15 +11,25 @@ import static seedu.address.testutil.TypicalInternships.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.InternshipListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.InternshipData;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
@@ -81,6 +93,188 @@ public class InternshipLogicManagerTest {
                 InternshipLogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsNotChangingData_saveSkipped() throws Exception {
+        InternshipLogicManager logicManager = (InternshipLogicManager) logic;
+
+        // The data is saved once even if unchanged, as it may not have been saved before
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getSaveCount());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+
+        logic.execute(InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build()));
+        assertEquals(2, logicManager.getSaveCount());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_previousSaveFailed_saveRetried() {
+        InternshipLogicManager logicManager = new InternshipLogicManager(model,
+                createStorageThrowing(DUMMY_IO_EXCEPTION));
+
+        assertThrows(CommandException.class, () -> logicManager.execute(InternshipListCommand.COMMAND_WORD));
+        assertThrows(CommandException.class, () -> logicManager.execute(InternshipListCommand.COMMAND_WORD));
+        assertEquals(2, logicManager.getSaveCount());
+        assertEquals(0, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_writeBehindStorageThrowsIoException_errorReportedToHandler() throws Exception {
+        logic = new InternshipLogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION), true);
+        List<String> errorMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveErrorHandler(errorMessages::add);
+
+        String addCommand = InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build());
+        InternshipModelManager expectedModel = new InternshipModelManager();
+        expectedModel.addInternship(new InternshipBuilder(AMY).build());
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+
+        logic.flushPendingSaves();
+        assertEquals(List.of(String.format(InternshipLogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage())), errorMessages);
+    }
+
+    @Test
+    public void execute_writeBehindSaveFailed_saveRetried() throws Exception {
+        InternshipLogicManager logicManager = new InternshipLogicManager(model,
+                createStorageThrowing(DUMMY_IO_EXCEPTION), true);
+
+        logicManager.execute(InternshipListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+        logicManager.execute(InternshipListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+        assertEquals(2, logicManager.getSaveCount());
+        assertEquals(0, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_writeBehind_dataSavedAfterFlush() throws Exception {
+        Path dataPath = temporaryFolder.resolve("writeBehindInternshipData.json");
+        InternshipStorageManager storage = new InternshipStorageManager(new JsonInternshipDataStorage(dataPath),
+                new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("writeBehindUserPrefs.json")));
+        logic = new InternshipLogicManager(model, storage, true);
+
+        logic.execute(InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build()));
+        logic.flushPendingSaves();
+
+        assertEquals(model.getInternshipData(), new InternshipData(storage.readInternshipData(dataPath).get()));
+    }
+
+    @Test
+    public void constructor_sortSavedInUserPrefs_listSorted() throws Exception {
+        logic.execute("add " + InternshipUtil.getInternshipDetails(AMY));
+        logic.execute("add " + InternshipUtil.getInternshipDetails(new InternshipBuilder(AMY)
+                .withCompanyName("Apple").build()));
+        logic.execute("sort /com asc");
+        assertEquals("/com asc", model.getInternshipSortSpec());
+
+        InternshipUserPrefs userPrefs = new InternshipUserPrefs(model.getUserPrefs());
+        InternshipModel restartedModel = new InternshipModelManager(model.getInternshipData(), userPrefs);
+        new InternshipLogicManager(restartedModel, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertEquals(model.getFilteredInternshipList(), restartedModel.getFilteredInternshipList());
+        assertEquals("Apple", restartedModel.getFilteredInternshipList().get(0).getCompanyName().toString());
+
+        // an invalid saved sort is discarded
+        userPrefs.setInternshipSortSpec("/com sideways");
+        restartedModel = new InternshipModelManager(model.getInternshipData(), userPrefs);
+        new InternshipLogicManager(restartedModel, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertEquals("", restartedModel.getInternshipSortSpec());
+    }
+
+    @Test
+    public void executeAsync_severalCommands_executedInOrder() throws Exception {
+        Internship apple = new InternshipBuilder(AMY).withCompanyName("Apple").build();
+        CompletableFuture<CommandResult> addAmy = logic.executeAsync(InternshipUtil.getAddCommand(AMY));
+        CompletableFuture<CommandResult> addApple = logic.executeAsync(InternshipUtil.getAddCommand(apple));
+        CompletableFuture<CommandResult> sort = logic.executeAsync("sort /com asc");
+
+        sort.get();
+        assertTrue(addAmy.isDone() && addApple.isDone());
+        assertEquals(List.of("Apple", AMY.getCompanyName().toString()), logic.getFilteredInternshipList().stream()
+                .map(internship -> internship.getCompanyName().toString()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completedExceptionally() throws Exception {
+        Throwable error = logic.executeAsync("uicfhmowqewca").handle((result, e) -> e).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_uiExecutorSet_changesPublishedOnUiExecutor() throws Exception {
+        Queue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
+        logic.setUiExecutor(uiTasks::add);
+        CompletableFuture<CommandResult> future = logic.executeAsync(InternshipUtil.getAddCommand(AMY));
+        logic.awaitPendingCommands();
+
+        // the model has changed, but the displayed list and the future only change on the UI executor
+        assertEquals(1, model.getFilteredInternshipList().size());
+        assertTrue(logic.getFilteredInternshipList().isEmpty());
+        assertFalse(future.isDone());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(model.getFilteredInternshipList(), logic.getFilteredInternshipList());
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void executeAsync_burstOfCommands_publishedTogether() throws Exception {
+        Queue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
+        logic.setUiExecutor(uiTasks::add);
+        List<String> changes = new ArrayList<>();
+        logic.getFilteredInternshipList().addListener((ListChangeListener<Internship>) change ->
+                changes.add(change.toString()));
+
+        CompletableFuture<CommandResult> addAmy = logic.executeAsync(InternshipUtil.getAddCommand(AMY));
+        CompletableFuture<CommandResult> addApple = logic.executeAsync(InternshipUtil.getAddCommand(
+                new InternshipBuilder(AMY).withCompanyName("Apple").build()));
+        CompletableFuture<CommandResult> list = logic.executeAsync(InternshipListCommand.COMMAND_WORD);
+        logic.awaitPendingCommands();
+
+        // the three commands are published by a single task, which changes the list once
+        assertEquals(1, uiTasks.size());
+        uiTasks.poll().run();
+        assertEquals(1, changes.size());
+        assertEquals(model.getFilteredInternshipList(), logic.getFilteredInternshipList());
+        assertTrue(addAmy.isDone() && addApple.isDone() && list.isDone());
+    }
+
+    @Test
+    public void execute_asyncCommandsYetToBePublished_publishedInOrderFirst() throws Exception {
+        Queue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
+        logic.setUiExecutor(uiTasks::add);
+        CompletableFuture<CommandResult> addAmy = logic.executeAsync(InternshipUtil.getAddCommand(AMY));
+        logic.execute("sort /com desc");
+
+        // the changes of the earlier command are published before those of the later one
+        assertTrue(addAmy.isDone());
+        assertEquals(model.getFilteredInternshipList(), logic.getFilteredInternshipList());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(model.getFilteredInternshipList(), logic.getFilteredInternshipList());
+    }
+
+    @Test
+    public void setGuiSettings_guiSettings_setOnWorkerThread() {
+        GuiSettings guiSettings = new GuiSettings(800, 600, 10, 20);
+        logic.setGuiSettings(guiSettings);
+        assertEquals(guiSettings, logic.getGuiSettings());
+        assertEquals(guiSettings, model.getGuiSettings());
+    }
+
+    @Test
+    public void setSelectedInternship_internship_selectionPublished() throws Exception {
+        logic.execute(InternshipUtil.getAddCommand(AMY));
+        Internship internship = logic.getFilteredInternshipList().get(0);
+        logic.setSelectedInternship(internship);
+        logic.awaitPendingCommands();
+        assertEquals(List.of(internship), logic.getSelectedInternship());
+    }
+
     @Test
     public void getFilteredInternshipList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredInternshipList().remove(0));
@@ -147,9 +341,23 @@ public class InternshipLogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the InternshipLogic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        // Inject InternshipLogicManager with an InternshipDataStorage that throws the IOException e when saving
+        logic = new InternshipLogicManager(model, createStorageThrowing(e));
+
+        // Triggers the saveInternshipData method by executing an add command
+        String addCommand = InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build());
+        Internship expectedInternship = new InternshipBuilder(AMY).build();
+        InternshipModelManager expectedModel = new InternshipModelManager();
+        expectedModel.addInternship(expectedInternship);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a storage whose {@code InternshipDataStorage} throws {@code e} when saving.
+     */
+    private InternshipStorageManager createStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionInternshipUserPrefs.json");
 
-        // Inject InternshipLogicManager with an InternshipDataStorage that throws the IOException e when saving
         JsonInternshipDataStorage internshipDataStorage = new JsonInternshipDataStorage(prefPath) {
             @Override
             public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath)
@@ -160,15 +368,6 @@ public class InternshipLogicManagerTest {
 
         JsonInternshipUserPrefsStorage userPrefsStorage =
                 new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("ExceptionInternshipUserPrefs.json"));
-        InternshipStorageManager storage = new InternshipStorageManager(internshipDataStorage, userPrefsStorage);
-
-        logic = new InternshipLogicManager(model, storage);
-
-        // Triggers the saveInternshipData method by executing an add command
-        String addCommand = InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build());
-        Internship expectedInternship = new InternshipBuilder(AMY).build();
-        InternshipModelManager expectedModel = new InternshipModelManager();
-        expectedModel.addInternship(expectedInternship);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new InternshipStorageManager(internshipDataStorage, userPrefsStorage);
     }
 }
@@ -0,0 +1,62 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PublishedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final PublishedList<String> list = new PublishedList<>(source);
+    private final List<String> changes = new ArrayList<>();
+
+    private void listenForChanges() {
+        list.addListener((ListChangeListener<String>) change -> changes.add(String.valueOf(list)));
+    }
+
+    @Test
+    public void publish_changesToSource_shownOnlyWhenPublished() {
+        listenForChanges();
+        source.set(1, "x");
+        source.add(2, "y");
+        PublishedList.Changes<String> taken = list.takeChanges();
+        assertEquals(List.of("a", "b", "c"), list);
+
+        list.publish(taken);
+        assertEquals(List.of("a", "x", "y", "c"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void publish_noChanges_noChangeFired() {
+        listenForChanges();
+        list.publish(list.takeChanges());
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void publish_appendedChanges_appliedInOrder() {
+        source.remove(0);
+        PublishedList.Changes<String> taken = list.takeChanges();
+        source.setAll("d", "e");
+        source.add(1, "f");
+        taken.append(list.takeChanges());
+        source.clear();
+        PublishedList.Changes<String> later = list.takeChanges();
+
+        listenForChanges();
+        list.publish(taken);
+        assertEquals(List.of("d", "f", "e"), list);
+        assertEquals(1, changes.size());
+
+        list.publish(later);
+        assertEquals(List.of(), list);
+    }
+}
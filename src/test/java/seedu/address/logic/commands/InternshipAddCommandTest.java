@@ -23,7 +23,10 @@ import seedu.address.model.InternshipData;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.ReadOnlyInternshipUserPrefs;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
+import seedu.address.model.internship.Location.LocationEnum;
 import seedu.address.testutil.InternshipBuilder;
 
 public class InternshipAddCommandTest {
@@ -120,6 +123,16 @@ public class InternshipAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String getInternshipSortSpec() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setInternshipSortSpec(String internshipSortSpec) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addInternship(Internship internship) {
             throw new AssertionError("This method should not be called.");
@@ -135,6 +148,26 @@ public class InternshipAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getInternshipDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public InternshipChanges takeInternshipDataChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getInternshipCount(StatusEnum status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getInternshipCount(LocationEnum location) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasInternship(Internship internship) {
             throw new AssertionError("This method should not be called.");
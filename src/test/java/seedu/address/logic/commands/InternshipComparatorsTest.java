@@ -81,6 +81,14 @@ public class InternshipComparatorsTest {
         assertEquals(1, comparator.compare(internship1, internship2));
     }
 
+    @Test
+    public void byPhone_differentLengths_numericOrder() {
+        Comparator<Internship> comparator = InternshipComparators.byPhone(true);
+        Internship internship1 = internshipBuilder.withContactNumber("9999999").build();
+        Internship internship2 = internshipBuilder.withContactNumber("10000000").build();
+        assertEquals(-1, comparator.compare(internship1, internship2));
+    }
+
     @Test
     public void byLocation_descComparator_correctOrder() {
         Comparator<Internship> comparator = InternshipComparators.byLocation(false);
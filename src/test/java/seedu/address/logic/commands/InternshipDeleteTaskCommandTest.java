@@ -20,6 +20,7 @@ import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Task;
+import seedu.address.testutil.InternshipBuilder;
 
 public class InternshipDeleteTaskCommandTest {
     private static final Index INDEX_FIRST_TASK = Index.fromOneBased(1);
@@ -30,9 +31,12 @@ public class InternshipDeleteTaskCommandTest {
 
     @Test
     public void execute_internshipTask_success() {
-        Internship internshipWithDeletedTask = getTypicalInternships().get(0);
-        internshipWithDeletedTask.deleteTask(INDEX_FIRST_TASK.getZeroBased());
-        Task taskToDelete = internshipWithDeletedTask.getTaskList().getTask(INDEX_FIRST_TASK.getZeroBased());
+        // this is ALICE_MICROSOFT
+        Internship internshipToDeleteTaskFrom = model.getFilteredInternshipList()
+                .get(INDEX_FIRST_INTERNSHIP.getZeroBased());
+        Task taskToDelete = internshipToDeleteTaskFrom.getTaskList().getTask(INDEX_FIRST_TASK.getZeroBased());
+        Internship internshipWithDeletedTask = new InternshipBuilder(internshipToDeleteTaskFrom)
+                .withId(internshipToDeleteTaskFrom.getId()).withTaskList("Submit Resume").build();
         InternshipDeleteTaskCommand deleteTaskCommand = new InternshipDeleteTaskCommand(INDEX_FIRST_INTERNSHIP,
                 INDEX_FIRST_TASK);
 
@@ -20,6 +20,7 @@ import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.internship.Deadline;
 import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
 
 /**
  * Contains integration tests (interaction with the InternshipModel) and unit tests for InternshipSetDeadlineCommand.
@@ -34,8 +35,10 @@ public class InternshipSetDeadlineCommandTest {
     @Test
     public void execute_internshipWithSpecifiedTaskAndDeadline_success() {
         //this is BENSON_GOOGLE
-        Internship internshipWithAddedDeadline = getTypicalInternshipData().getInternshipList().get(1);
-        internshipWithAddedDeadline.getTaskList().getTask(0).setDeadline(DEFAULT_DEADLINE);
+        Internship internshipToSetDeadline = model.getFilteredInternshipList()
+                .get(INDEX_SECOND_INTERNSHIP.getZeroBased());
+        Internship internshipWithAddedDeadline = new InternshipBuilder(internshipToSetDeadline)
+                .withId(internshipToSetDeadline.getId()).withTaskList("Submit documents (20/04/2024)").build();
 
         InternshipSetDeadlineCommand setDeadlineCommand = new InternshipSetDeadlineCommand(INDEX_SECOND_INTERNSHIP,
                 INDEX_FIRST_TASK, DEFAULT_DEADLINE);
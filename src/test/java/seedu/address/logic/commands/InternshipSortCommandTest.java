@@ -7,7 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -178,11 +180,36 @@ public class InternshipSortCommandTest {
     }
 
 
+    @Test
+    public void constructor_fieldWithoutOrder_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InternshipSortCommand(List.of(), List.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new InternshipSortCommand(List.of(fieldCompany, fieldLocation), List.of(ascending)));
+    }
+
+    @Test
+    public void execute_sortMultipleFields_sortedAndSaved() {
+        model.addInternship(internshipBuilder.withCompanyName("BBB").withLocation("remote").withId(90).build());
+        model.addInternship(internshipBuilder.withCompanyName("AAA").withLocation("remote").withId(91).build());
+        model.addInternship(internshipBuilder.withCompanyName("CCC").withLocation("overseas").withId(92).build());
+        InternshipSortCommand command = new InternshipSortCommand(List.of(fieldLocation, fieldCompany),
+                List.of(descending, ascending));
+        command.execute(model);
+
+        Comparator<Internship> expectedOrder = InternshipComparators.byLocation(false)
+                .thenComparing(InternshipComparators.byCompanyName(true));
+        List<Internship> expected = new ArrayList<>(model.getFilteredInternshipList());
+        expected.sort(expectedOrder);
+        assertEquals(expected, model.getFilteredInternshipList());
+        assertEquals("AAA", model.getFilteredInternshipList().get(0).getCompanyName().toString());
+        assertEquals("/loc desc /com asc", model.getInternshipSortSpec());
+    }
+
     @Test
     public void toString_validFieldAndOrder_success() {
         InternshipSortCommand sortNameCommand = new InternshipSortCommand(fieldCompany, ascending);
-        String expected = InternshipSortCommand.class.getCanonicalName() + "{field="
-                + fieldCompany.toString() + ", order=" + ascending.toString() + "}";
+        String expected = InternshipSortCommand.class.getCanonicalName() + "{fields=["
+                + fieldCompany.toString() + "], orders=[" + ascending.toString() + "]}";
         assertEquals(expected, sortNameCommand.toString());
     }
 }
@@ -4,8 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.InternshipSortCommand;
@@ -83,10 +87,31 @@ public class InternshipSortCommandParserTest {
     }
 
     @Test
-    public void parseMultipleFields() {
-        // Invalid input: multiple fields
-        assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_COMPANY.getPrefix()
-                + " asc " + PREFIX_CONTACT_EMAIL + " asc"));
+    public void parseMultipleFields() throws ParseException {
+        // Valid input: each field followed by its order
+        InternshipSortCommand expectedCommand = new InternshipSortCommand(
+                List.of(InternshipSortCommandParser.FieldEnum.STATUS, InternshipSortCommandParser.FieldEnum.COMPANY,
+                        InternshipSortCommandParser.FieldEnum.ROLE),
+                List.of(InternshipSortCommandParser.OrderEnum.ASCENDING,
+                        InternshipSortCommandParser.OrderEnum.ASCENDING,
+                        InternshipSortCommandParser.OrderEnum.DESCENDING));
+        assertEquals(expectedCommand, parser.parse(" " + PREFIX_STATUS + " asc  " + PREFIX_COMPANY + " asc "
+                + PREFIX_ROLE + " desc"));
+
+        // the arguments of a command are parsed into an equal command
+        assertEquals(expectedCommand, parser.parse(expectedCommand.getSortSpec()));
+    }
+
+    @Test
+    public void parseMultipleFields_missingOrder_throwsParseException() {
+        assertThrows(ParseException.class, InternshipSortCommand.MESSAGE_NO_ORDER, () -> parser.parse(" "
+                + PREFIX_COMPANY + " asc " + PREFIX_CONTACT_EMAIL));
+    }
+
+    @Test
+    public void parseMultipleFields_duplicateField_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_COMPANY + " asc "
+                + PREFIX_ROLE + " asc " + PREFIX_COMPANY + " desc"));
     }
 
     @Test
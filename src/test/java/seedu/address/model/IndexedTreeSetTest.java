@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedTreeSetTest {
+
+    private final IndexedTreeSet<Integer> set = new IndexedTreeSet<>(Comparator.naturalOrder());
+
+    private static void assertSameElements(List<Integer> expected, IndexedTreeSet<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+            assertEquals(i, actual.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void addAndRemove_randomElements_sameAsSortedList() {
+        Random random = new Random(20);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Integer element = random.nextInt(1000);
+            int index = Collections.binarySearch(expected, element);
+            if (index >= 0) {
+                expected.remove(index);
+                assertEquals(index, set.remove(element));
+            } else {
+                expected.add(-index - 1, element);
+                assertEquals(-index - 1, set.add(element));
+            }
+        }
+        assertSameElements(expected, set);
+
+        // the tree stays balanced
+        assertTrue(set.getHeight() <= 1.45 * (Math.log(set.size() + 2) / Math.log(2)));
+    }
+
+    @Test
+    public void setAll_elements_sortedAndBalanced() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 999; i >= 0; i--) {
+            elements.add(i * 2);
+        }
+        set.setAll(elements);
+        elements.sort(Comparator.naturalOrder());
+        assertSameElements(elements, set);
+        assertEquals(10, set.getHeight());
+
+        set.setAll(List.of());
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    public void remove_missingElement_returnsMinusOne() {
+        set.setAll(List.of(1, 3, 5));
+        assertEquals(-1, set.remove(4));
+        assertEquals(-1, set.indexOf(0));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void addAndSetAll_duplicateElement_throwsIllegalArgumentException() {
+        set.add(1);
+        assertThrows(IllegalArgumentException.class, () -> set.add(1));
+        assertThrows(IllegalArgumentException.class, () -> set.setAll(List.of(2, 3, 2)));
+    }
+
+    @Test
+    public void setAllSorted_unsortedElements_throwsIllegalArgumentException() {
+        set.setAllSorted(List.of(1, 2, 4));
+        assertEquals(List.of(1, 2, 4), List.of(set.get(0), set.get(1), set.get(2)));
+        assertThrows(IllegalArgumentException.class, () -> set.setAllSorted(List.of(1, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> set.setAllSorted(List.of(1, 1)));
+    }
+
+    @Test
+    public void setAllSortedUnchecked_sortedElements_sameAsSetAll() {
+        List<Integer> elements = List.of(1, 3, 5, 8, 13);
+        set.setAllSortedUnchecked(elements);
+        assertSameElements(elements, set);
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        set.setAll(List.of(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(2));
+    }
+}
@@ -27,6 +27,7 @@ import seedu.address.model.internship.Description;
 import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Location;
 import seedu.address.model.internship.Role;
+import seedu.address.model.internship.exceptions.DuplicateInternshipException;
 import seedu.address.testutil.InternshipBuilder;
 
 public class InternshipDataTest {
@@ -281,6 +282,28 @@ public class InternshipDataTest {
         assertFalse(internshipData.hasInternship(editedAlice));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenInternshipsChange() {
+        long initialVersion = internshipData.getVersion();
+        internshipData.hasInternship(ALICE_MICROSOFT);
+        assertEquals(initialVersion, internshipData.getVersion());
+
+        internshipData.addInternship(ALICE_MICROSOFT);
+        long versionAfterAdd = internshipData.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        assertThrows(DuplicateInternshipException.class, () -> internshipData.addInternship(ALICE_MICROSOFT));
+        assertEquals(versionAfterAdd, internshipData.getVersion());
+
+        Internship editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withRemark("edited").build();
+        internshipData.setInternship(ALICE_MICROSOFT, editedAlice);
+        long versionAfterSet = internshipData.getVersion();
+        assertNotEquals(versionAfterAdd, versionAfterSet);
+
+        internshipData.removeInternship(editedAlice);
+        assertNotEquals(versionAfterSet, internshipData.getVersion());
+    }
+
     @Test
     public void getInternshipList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> internshipData.getInternshipList().remove(0));
@@ -4,13 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.CARL_OPENAI;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.InternshipComparators;
 import seedu.address.logic.parser.InternshipSortCommandParser;
@@ -21,11 +30,14 @@ import seedu.address.model.internship.ContactName;
 import seedu.address.model.internship.ContactNumber;
 import seedu.address.model.internship.Description;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
 import seedu.address.model.internship.Location;
 import seedu.address.model.internship.Remark;
 import seedu.address.model.internship.Role;
 import seedu.address.model.internship.TaskList;
+import seedu.address.model.util.InternshipFilterUtil;
 import seedu.address.testutil.InternshipBuilder;
+import seedu.address.testutil.SyntheticInternships;
 
 public class InternshipModelManagerTest {
 
@@ -79,6 +91,103 @@ public class InternshipModelManagerTest {
         assertThrows(NullPointerException.class, () -> internshipModelManager.updateFilteredInternshipList(null));
     }
 
+    @Test
+    public void updateFilteredInternshipList_narrowerSearch_sameAsFullSearch() {
+        InternshipModelManager modelManager = new InternshipModelManager(getTypicalInternshipData(),
+                new InternshipUserPrefs());
+        InternshipContainsKeywordsPredicate engineers = new InternshipContainsKeywordsPredicate(null, null, null,
+                null, null, "engineer", null, true);
+        InternshipContainsKeywordsPredicate localEngineers = new InternshipContainsKeywordsPredicate(null, null,
+                "local", null, null, "engineer", null, true);
+
+        modelManager.updateFilteredInternshipList(engineers);
+        assertEquals(List.of(ALICE_MICROSOFT, BENSON_GOOGLE, CARL_OPENAI), modelManager.getFilteredInternshipList());
+
+        // the current results follow changes to the data before being narrowed down
+        modelManager.deleteInternship(ALICE_MICROSOFT);
+        modelManager.updateFilteredInternshipList(localEngineers);
+        assertEquals(List.of(BENSON_GOOGLE), modelManager.getFilteredInternshipList());
+
+        // widening the search again evaluates it in full
+        modelManager.updateFilteredInternshipList(engineers);
+        assertEquals(List.of(BENSON_GOOGLE, CARL_OPENAI), modelManager.getFilteredInternshipList());
+    }
+
+    @Test
+    public void updateFilteredInternshipList_repeatedSearch_resultsCachedUntilDataChanges() {
+        InternshipModelManager modelManager = new InternshipModelManager(getTypicalInternshipData(),
+                new InternshipUserPrefs());
+        InternshipContainsKeywordsPredicate engineers = new InternshipContainsKeywordsPredicate(null, null, null,
+                null, null, "engineer", null, true);
+
+        modelManager.updateFilteredInternshipList(engineers);
+        modelManager.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+        modelManager.updateFilteredInternshipList(engineers);
+        assertEquals(1, modelManager.getSearchCacheHitCount());
+        assertEquals(List.of(ALICE_MICROSOFT, BENSON_GOOGLE, CARL_OPENAI), modelManager.getFilteredInternshipList());
+
+        modelManager.deleteInternship(CARL_OPENAI);
+        modelManager.updateFilteredInternshipList(engineers);
+        assertEquals(1, modelManager.getSearchCacheHitCount());
+        assertEquals(2, modelManager.getSearchCacheMissCount());
+        assertEquals(List.of(ALICE_MICROSOFT, BENSON_GOOGLE), modelManager.getFilteredInternshipList());
+    }
+
+    @Test
+    public void updateFilteredInternshipList_manyInternships_sameAsSequentialFilter() {
+        List<Internship> internships = SyntheticInternships.generate(
+                InternshipFilterUtil.DEFAULT_PARALLEL_THRESHOLD * 2, 5);
+        InternshipData internshipData = new InternshipData();
+        internshipData.setInternships(internships);
+        InternshipModelManager modelManager = new InternshipModelManager(internshipData, new InternshipUserPrefs());
+        Predicate<Internship> withTasks = internship -> internship.getTaskListSize() > 0;
+
+        modelManager.updateFilteredInternshipList(withTasks);
+        List<Internship> expected = internships.stream().filter(withTasks).collect(Collectors.toList());
+        assertEquals(expected, modelManager.getFilteredInternshipList());
+
+        // internships changed afterwards are tested with the predicate itself
+        Internship withoutTasks = internships.stream().filter(withTasks.negate()).findFirst().get();
+        Internship withTask = new InternshipBuilder(withoutTasks).withTaskList("Submit resume")
+                .withId(withoutTasks.getId()).build();
+        modelManager.setInternship(withoutTasks, withTask);
+        assertEquals(expected.size() + 1, modelManager.getFilteredInternshipList().size());
+        assertTrue(modelManager.getFilteredInternshipList().contains(withTask));
+    }
+
+    @Test
+    public void updateFilteredInternshipList_allInternshipsShown_listUnchanged() {
+        InternshipModelManager modelManager = new InternshipModelManager(getTypicalInternshipData(),
+                new InternshipUserPrefs());
+        int[] changeCount = new int[1];
+        modelManager.getFilteredInternshipList().addListener((ListChangeListener<Internship>) c -> changeCount[0]++);
+
+        modelManager.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+        assertEquals(0, changeCount[0]);
+
+        modelManager.updateFilteredInternshipList(internship -> false);
+        modelManager.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+        assertEquals(2, changeCount[0]);
+        assertEquals(getTypicalInternshipData().getInternshipList(), modelManager.getFilteredInternshipList());
+    }
+
+    @Test
+    public void setInternship_sortedList_editedInternshipMoved() {
+        InternshipModelManager modelManager = new InternshipModelManager(getTypicalInternshipData(),
+                new InternshipUserPrefs());
+        Comparator<Internship> byCompanyName = InternshipComparators.byCompanyName(true);
+        modelManager.sortFilteredInternshipList(byCompanyName);
+        Internship edited = new InternshipBuilder(ALICE_MICROSOFT).withCompanyName("Zebra")
+                .withId(ALICE_MICROSOFT.getId()).build();
+        modelManager.setInternship(ALICE_MICROSOFT, edited);
+        modelManager.addInternship(internship);
+
+        List<Internship> expected = modelManager.getInternshipData().getInternshipList().stream()
+                .sorted(byCompanyName).collect(Collectors.toList());
+        assertEquals(expected, modelManager.getFilteredInternshipList());
+        assertEquals(edited, expected.get(expected.size() - 1));
+    }
+
     @Test
     public void sortInternshipList_nullComparator_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> internshipModelManager.sortFilteredInternshipList(null));
@@ -112,6 +221,18 @@ public class InternshipModelManagerTest {
         assertTrue(internshipModelManager.hasInternship(internship));
     }
 
+    @Test
+    public void getInternshipCount() {
+        internshipModelManager.addInternship(internship);
+        assertEquals(1, internshipModelManager.getInternshipCount(ApplicationStatus.StatusEnum.REJECTED));
+        assertEquals(0, internshipModelManager.getInternshipCount(ApplicationStatus.StatusEnum.PENDING));
+        assertEquals(1, internshipModelManager.getInternshipCount(Location.LocationEnum.REMOTE));
+
+        internshipModelManager.deleteInternship(internship);
+        assertEquals(0, internshipModelManager.getInternshipCount(ApplicationStatus.StatusEnum.REJECTED));
+        assertEquals(0, internshipModelManager.getInternshipCount(Location.LocationEnum.REMOTE));
+    }
+
     @Test
     public void deleteInternship() {
         internshipModelManager.addInternship(internship);
@@ -314,4 +435,31 @@ public class InternshipModelManagerTest {
         assertEquals(internshipModelManager.getFilteredInternshipList(),
                 internshipModelManager.getFilteredInternshipList());
     }
+
+    @Test
+    public void setSelectedInternship_internshipEditedThenDeleted_selectionFollowsInternship() {
+        internshipModelManager.addInternship(ALICE_MICROSOFT);
+        internshipModelManager.addInternship(BENSON_GOOGLE);
+        assertTrue(internshipModelManager.getSelectedInternship().isEmpty());
+
+        internshipModelManager.setSelectedInternship(ALICE_MICROSOFT);
+        assertEquals(List.of(ALICE_MICROSOFT), internshipModelManager.getSelectedInternship());
+
+        // the edited internship keeps its id, and stays selected
+        Internship editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withId(ALICE_MICROSOFT.getId())
+                .withRemark("Edited").build();
+        internshipModelManager.setInternship(ALICE_MICROSOFT, editedAlice);
+        assertEquals(List.of(editedAlice), internshipModelManager.getSelectedInternship());
+
+        // other changes leave the selection as it is
+        internshipModelManager.deleteInternship(BENSON_GOOGLE);
+        assertEquals(List.of(editedAlice), internshipModelManager.getSelectedInternship());
+
+        internshipModelManager.deleteInternship(editedAlice);
+        assertTrue(internshipModelManager.getSelectedInternship().isEmpty());
+
+        // an internship that is not in the data cannot be selected
+        internshipModelManager.setSelectedInternship(CARL_OPENAI);
+        assertTrue(internshipModelManager.getSelectedInternship().isEmpty());
+    }
 }
@@ -56,6 +56,24 @@ public class InternshipUserPrefsTest {
         InternshipUserPrefs userPrefs = new InternshipUserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setInternshipDataFilePath(null));
     }
+    @Test
+    public void setInternshipSortSpec_nullSortSpec_throwsNullPointerException() {
+        InternshipUserPrefs userPrefs = new InternshipUserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setInternshipSortSpec(null));
+    }
+
+    @Test
+    public void resetData_differentSortSpec_sortSpecCopied() {
+        InternshipUserPrefs userPrefs = new InternshipUserPrefs();
+        InternshipUserPrefs userPrefs2 = new InternshipUserPrefs();
+        userPrefs2.setInternshipSortSpec("/status asc /com desc");
+        assertFalse(userPrefs.equals(userPrefs2));
+
+        userPrefs.resetData(userPrefs2);
+        assertEquals("/status asc /com desc", userPrefs.getInternshipSortSpec());
+        assertEquals(userPrefs2, userPrefs);
+    }
+
     @Test
     public void resetData_nullUserPrefs_throwsNullPointerException() {
         InternshipUserPrefs userPrefs = new InternshipUserPrefs();
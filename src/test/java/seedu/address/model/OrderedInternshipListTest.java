@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.InternshipComparators;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
+import seedu.address.testutil.SyntheticInternships;
+
+public class OrderedInternshipListTest {
+
+    private final List<Internship> internships = SyntheticInternships.generate(400, 20);
+    private final ObservableList<Internship> source = FXCollections.observableArrayList(internships.subList(0, 200));
+    private final OrderedInternshipList orderedList = new OrderedInternshipList(source);
+
+    private static void assertOrder(List<Internship> source, Comparator<Internship> comparator,
+            OrderedInternshipList orderedList) {
+        List<Internship> expected = new ArrayList<>(source);
+        expected.sort(comparator.thenComparingInt(Internship::getId));
+        assertEquals(expected, orderedList);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, orderedList.getViewIndex(source.indexOf(expected.get(i))));
+            assertEquals(source.indexOf(expected.get(i)), orderedList.getSourceIndex(i));
+        }
+    }
+
+    @Test
+    public void sourceChanged_singleChanges_orderKept() {
+        Comparator<Internship> comparator = InternshipComparators.byCompanyName(true);
+        orderedList.setComparator(comparator);
+        assertOrder(source, comparator, orderedList);
+
+        Random random = new Random(20);
+        int nextInternship = 200;
+        for (int i = 0; i < 300; i++) {
+            int index = random.nextInt(source.size());
+            switch (random.nextInt(3)) {
+            case 0:
+                source.add(index, internships.get(nextInternship++));
+                break;
+            case 1:
+                source.remove(index);
+                break;
+            default:
+                Internship edited = new InternshipBuilder(source.get(index))
+                        .withCompanyName(internships.get(random.nextInt(internships.size())).getCompanyName()
+                                .toString())
+                        .withId(source.get(index).getId()).build();
+                source.set(index, edited);
+            }
+            assertOrder(source, comparator, orderedList);
+        }
+    }
+
+    @Test
+    public void sourceChanged_largeChange_orderKept() {
+        Comparator<Internship> comparator = InternshipComparators.byApplicationStatus(false);
+        orderedList.setComparator(comparator);
+        source.setAll(internships.subList(100, 400));
+        assertOrder(source, comparator, orderedList);
+    }
+
+    @Test
+    public void setComparator_null_sourceOrder() {
+        orderedList.setComparator(InternshipComparators.byRole(true));
+        orderedList.setComparator(null);
+        assertEquals(source, orderedList);
+
+        source.remove(3);
+        source.add(0, internships.get(300));
+        assertEquals(source, orderedList);
+        assertEquals(5, orderedList.getSourceIndex(5));
+        assertEquals(5, orderedList.getViewIndex(5));
+    }
+
+    @Test
+    public void sourceChanged_updatedInternship_updatedInPlace() {
+        Map<Integer, SimpleBooleanProperty> triggers = new HashMap<>();
+        internships.forEach(internship -> triggers.put(internship.getId(), new SimpleBooleanProperty()));
+        ObservableList<Internship> updatingSource = FXCollections.observableArrayList(
+                internship -> new Observable[] {triggers.get(internship.getId())});
+        updatingSource.setAll(internships.subList(0, 200));
+        OrderedInternshipList updatingList = new OrderedInternshipList(updatingSource);
+        Comparator<Internship> comparator = InternshipComparators.byCompanyName(false);
+        updatingList.setComparator(comparator);
+        List<Internship> viewBefore = new ArrayList<>(updatingList);
+
+        List<ListChangeListener.Change<? extends Internship>> changes = new ArrayList<>();
+        List<Integer> updatedIndexes = new ArrayList<>();
+        updatingList.addListener((ListChangeListener<Internship>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasUpdated());
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    updatedIndexes.add(i);
+                }
+            }
+            changes.add(c);
+        });
+
+        Internship updated = updatingSource.get(42);
+        triggers.get(updated.getId()).set(true);
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(viewBefore.indexOf(updated)), updatedIndexes);
+        assertEquals(viewBefore, updatingList);
+        assertOrder(updatingSource, comparator, updatingList);
+    }
+}
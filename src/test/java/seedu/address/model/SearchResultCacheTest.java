@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+
+public class SearchResultCacheTest {
+
+    private static final InternshipContainsKeywordsPredicate GOOGLE =
+            new InternshipContainsKeywordsPredicate("Google", null, null, null, null, null, null, false);
+    private static final InternshipContainsKeywordsPredicate META =
+            new InternshipContainsKeywordsPredicate("Meta", null, null, null, null, null, null, false);
+    private static final InternshipContainsKeywordsPredicate APPLE =
+            new InternshipContainsKeywordsPredicate("Apple", null, null, null, null, null, null, false);
+
+    private static BitSet idsOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchResultCache(0));
+    }
+
+    @Test
+    public void get_equalSearch_hit() {
+        SearchResultCache cache = new SearchResultCache(2);
+        assertFalse(cache.get(GOOGLE, 1).isPresent());
+        cache.put(GOOGLE, 1, idsOf(3, 5));
+
+        assertEquals(idsOf(3, 5), cache.get(new InternshipContainsKeywordsPredicate("Google", null, null, null, null,
+                null, null, false), 1).get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_dataChanged_allResultsDropped() {
+        SearchResultCache cache = new SearchResultCache(2);
+        cache.put(GOOGLE, 1, idsOf(3));
+        cache.put(META, 1, idsOf(4));
+
+        assertFalse(cache.get(GOOGLE, 2).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedEvicted() {
+        SearchResultCache cache = new SearchResultCache(2);
+        cache.put(GOOGLE, 1, idsOf(3));
+        cache.put(META, 1, idsOf(4));
+        cache.get(GOOGLE, 1);
+        cache.put(APPLE, 1, idsOf(5));
+
+        assertTrue(cache.get(GOOGLE, 1).isPresent());
+        assertFalse(cache.get(META, 1).isPresent());
+        assertTrue(cache.get(APPLE, 1).isPresent());
+    }
+}
@@ -3,6 +3,12 @@ package seedu.address.model.internship;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternships;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -30,6 +36,7 @@ public class InternshipContainsKeywordsPredicateTest {
                 new InternshipContainsKeywordsPredicate(firstPredicateKeywords, null, null,
                         null, null, null, null, false);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
@@ -89,4 +96,89 @@ public class InternshipContainsKeywordsPredicateTest {
                 + " isMatchAll=" + isMatchAll + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void test_statusAndLocationKeywords() {
+        Internship internship = new InternshipBuilder().withApplicationStatus("to_apply").withLocation("remote")
+                .withCompanyName("Google").build();
+
+        // enum values are matched ignoring case, and unknown values match nothing
+        assertTrue(new InternshipContainsKeywordsPredicate(null, null, "REMOTE", "To_Apply", null, null, null, true)
+                .test(internship));
+        assertFalse(new InternshipContainsKeywordsPredicate(null, null, "remote", "apply", null, null, null, true)
+                .test(internship));
+
+        // a matching enum field is enough for a match any, but not for a match all
+        assertTrue(new InternshipContainsKeywordsPredicate("Meta", null, null, "pending to_apply", null, null, null,
+                false).test(internship));
+        assertFalse(new InternshipContainsKeywordsPredicate("Meta", null, null, "pending to_apply", null, null, null,
+                true).test(internship));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        InternshipContainsKeywordsPredicate googleOrMeta = new InternshipContainsKeywordsPredicate("Google Meta", null,
+                null, null, null, null, null, true);
+
+        // adding a field to a match all -> narrower
+        assertTrue(new InternshipContainsKeywordsPredicate("google", null, null, "pending", null, null, null, true)
+                .isNarrowerThan(googleOrMeta));
+
+        // dropping an alternative -> narrower
+        assertTrue(new InternshipContainsKeywordsPredicate("META", null, null, null, null, null, null, true)
+                .isNarrowerThan(googleOrMeta));
+
+        // adding an alternative -> wider
+        assertFalse(new InternshipContainsKeywordsPredicate("Google Meta Apple", null, null, null, null, null, null,
+                true).isNarrowerThan(googleOrMeta));
+
+        // a match any of another field -> not narrower
+        assertFalse(new InternshipContainsKeywordsPredicate("Google", null, null, "pending", null, null, null, false)
+                .isNarrowerThan(googleOrMeta));
+
+        // a match all requiring one of the fields of a match any -> narrower
+        InternshipContainsKeywordsPredicate googleOrPending = new InternshipContainsKeywordsPredicate("Google", null,
+                null, "pending", null, null, null, false);
+        assertTrue(new InternshipContainsKeywordsPredicate(null, null, "remote", "pending", null, null, null, true)
+                .isNarrowerThan(googleOrPending));
+        assertFalse(new InternshipContainsKeywordsPredicate(null, null, "remote", null, null, null, null, true)
+                .isNarrowerThan(googleOrPending));
+    }
+
+    @Test
+    public void getMatchingIds_typicalInternships_sameAsTest() {
+        UniqueInternshipList internships = new UniqueInternshipList();
+        internships.setInternships(getTypicalInternships());
+        List<InternshipContainsKeywordsPredicate> predicates = List.of(
+                new InternshipContainsKeywordsPredicate("google", null, null, null, null, null, null, false),
+                new InternshipContainsKeywordsPredicate(null, "meier", null, "PENDING", null, null, null, true),
+                new InternshipContainsKeywordsPredicate(null, "meier", null, "ongoing", null, null, null, true),
+                new InternshipContainsKeywordsPredicate(null, "meier", null, "ongoing", null, null, null, false),
+                new InternshipContainsKeywordsPredicate("Apple OpenAI", null, "remote", null, "rest", "backend",
+                        "interview", false),
+                new InternshipContainsKeywordsPredicate(null, null, null, null, "write rest", "engineer", null, true),
+                new InternshipContainsKeywordsPredicate(null, null, null, null, null, null, null, true),
+                new InternshipContainsKeywordsPredicate(null, null, null, null, null, null, null, false));
+
+        for (InternshipContainsKeywordsPredicate predicate : predicates) {
+            BitSet expectedIds = new BitSet();
+            internships.asUnmodifiableObservableList().stream().filter(predicate)
+                    .forEach(internship -> expectedIds.set(internship.getId()));
+            assertEquals(expectedIds, predicate.getMatchingIds(internships.getKeywordIndex()), predicate.toString());
+        }
+    }
+
+    @Test
+    public void usingIndex_internshipEdited_followsIndex() {
+        UniqueInternshipList internships = new UniqueInternshipList();
+        internships.setInternships(getTypicalInternships());
+        Predicate<Internship> predicate = new InternshipContainsKeywordsPredicate("google", null, null, null, null,
+                null, null, false).usingIndex(internships.getKeywordIndex());
+        assertTrue(predicate.test(BENSON_GOOGLE));
+
+        Internship edited = new InternshipBuilder(BENSON_GOOGLE).withCompanyName("Alphabet")
+                .withId(BENSON_GOOGLE.getId()).build();
+        internships.setInternship(BENSON_GOOGLE, edited);
+        assertFalse(predicate.test(edited));
+    }
 }
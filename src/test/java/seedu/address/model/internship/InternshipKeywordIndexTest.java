@@ -0,0 +1,102 @@
+package seedu.address.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.IDA_NETFLIX;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.Location.LocationEnum;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipKeywordIndexTest {
+
+    private final InternshipKeywordIndex index = new InternshipKeywordIndex();
+
+    private static BitSet idsOf(Internship... internships) {
+        BitSet ids = new BitSet();
+        for (Internship internship : internships) {
+            ids.set(internship.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void getIds_wordsOfAddedInternships_idsReturned() {
+        index.add(BENSON_GOOGLE);
+        index.add(IDA_NETFLIX);
+
+        // words are matched ignoring case
+        assertEquals(idsOf(BENSON_GOOGLE, IDA_NETFLIX), index.getIds(SearchableField.ROLE, "bACKEND"));
+        assertEquals(idsOf(IDA_NETFLIX), index.getIds(SearchableField.DESCRIPTION, "netflix"));
+
+        // words are matched in their own field only
+        assertTrue(index.getIds(SearchableField.COMPANY_NAME, "Backend").isEmpty());
+
+        // only whole words are matched
+        assertTrue(index.getIds(SearchableField.ROLE, "Back").isEmpty());
+    }
+
+    @Test
+    public void remove_internship_wordsNoLongerIndexed() {
+        index.add(BENSON_GOOGLE);
+        index.add(IDA_NETFLIX);
+        index.remove(BENSON_GOOGLE);
+
+        assertEquals(idsOf(IDA_NETFLIX), index.getIds(SearchableField.ROLE, "Backend"));
+        assertTrue(index.getIds(SearchableField.COMPANY_NAME, "Google").isEmpty());
+        assertEquals(idsOf(IDA_NETFLIX), index.getAllIds());
+        assertEquals(0, index.getCount(StatusEnum.PENDING));
+    }
+
+    @Test
+    public void getIds_statusAndLocation_bitmapsAndCountsKept() {
+        index.add(ALICE_MICROSOFT);
+        index.add(BENSON_GOOGLE);
+        index.add(IDA_NETFLIX);
+        index.remove(ALICE_MICROSOFT);
+
+        assertEquals(idsOf(IDA_NETFLIX), index.getIds(StatusEnum.ONGOING));
+        assertEquals(idsOf(BENSON_GOOGLE), index.getIds(SearchableField.STATUS, "Pending"));
+        assertEquals(idsOf(IDA_NETFLIX), index.getIds(SearchableField.LOCATION, "REMOTE"));
+        assertTrue(index.getIds(SearchableField.STATUS, "remote").isEmpty());
+
+        assertEquals(1, index.getCount(StatusEnum.ONGOING));
+        assertEquals(0, index.getCount(StatusEnum.ACCEPTED));
+        assertEquals(1, index.getCount(LocationEnum.LOCAL));
+        assertEquals(1, index.getCount(LocationEnum.REMOTE));
+
+        // returned bitmaps are copies
+        index.getIds(StatusEnum.ONGOING).clear();
+        assertEquals(idsOf(IDA_NETFLIX), index.getIds(StatusEnum.ONGOING));
+    }
+
+    @Test
+    public void update_anyChange_versionChanged() {
+        long version = index.getVersion();
+        index.add(ALICE_MICROSOFT);
+        assertNotEquals(version, index.getVersion());
+
+        version = index.getVersion();
+        index.remove(ALICE_MICROSOFT);
+        assertNotEquals(version, index.getVersion());
+
+        version = index.getVersion();
+        index.clear();
+        assertNotEquals(version, index.getVersion());
+    }
+
+    @Test
+    public void tokenize_extraWhitespace_emptyWordsIgnored() {
+        assertEquals(Set.of("has", "a", "remark"), InternshipKeywordIndex.tokenize("  Has   a\tREMARK "));
+        index.add(new InternshipBuilder().withRemark("  Has   a\tREMARK ").build());
+        assertTrue(index.getIds(SearchableField.REMARK, "").isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.internship;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.SyntheticInternships;
+
+/**
+ * Search benchmark for {@link InternshipContainsKeywordsPredicate} over {@value #SIZE} internships.
+ *
+ * Every query is evaluated against every internship, both by the predicate and by the stream-based evaluation it
+ * used to perform, and the time taken per internship is reported. Each evaluation is warmed up for
+ * {@value #WARM_UP_RUNS} runs before the best of {@value #RUNS} runs is taken.
+ *
+ * Run with {@code ./gradlew searchBenchmark}.
+ */
+public class InternshipSearchBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int WARM_UP_RUNS = 10;
+    private static final int RUNS = 10;
+
+    private static final List<InternshipContainsKeywordsPredicate> QUERIES = List.of(
+            new InternshipContainsKeywordsPredicate("Google", null, null, null, null, null, null, false),
+            new InternshipContainsKeywordsPredicate(null, null, "remote", "pending", null, "Engineer", null, true),
+            new InternshipContainsKeywordsPredicate("Stripe Grab", "Tan", null, "accepted", "cloud", null, "Follow",
+                    false),
+            new InternshipContainsKeywordsPredicate(null, null, "overseas", null, "scalable data", null, null, true));
+
+    private static int sink;
+
+    public static void main(String[] args) {
+        List<Internship> internships = SyntheticInternships.generate(SIZE, SIZE);
+        System.out.printf("%-12s %14s %14s %10s%n", "query", "before (ns)", "after (ns)", "matches");
+        for (int i = 0; i < QUERIES.size(); i++) {
+            InternshipContainsKeywordsPredicate query = QUERIES.get(i);
+            double before = nanosPerRecord(internships, internship -> testAsBefore(query, internship));
+            double after = nanosPerRecord(internships, query);
+            System.out.printf("%-12s %14.1f %14.1f %10d%n", "query " + (i + 1), before, after,
+                    internships.stream().filter(query).count());
+        }
+    }
+
+    private static double nanosPerRecord(List<Internship> internships, Predicate<Internship> predicate) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < WARM_UP_RUNS + RUNS; run++) {
+            long start = System.nanoTime();
+            int matches = 0;
+            for (int i = 0; i < internships.size(); i++) {
+                if (predicate.test(internships.get(i))) {
+                    matches++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            sink += matches;
+            if (run >= WARM_UP_RUNS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return (double) best / internships.size();
+    }
+
+    /**
+     * Evaluates {@code query} the way {@code InternshipContainsKeywordsPredicate#test} used to: every field is
+     * checked through a stream, and split again on every call.
+     */
+    private static boolean testAsBefore(InternshipContainsKeywordsPredicate query, Internship internship) {
+        boolean isMatchAll = query.isMatchAll();
+        boolean[] found = new boolean[SearchableField.values().length];
+        for (SearchableField field : SearchableField.values()) {
+            Optional<Set<String>> keywords = Optional.ofNullable(query.getKeywordsByField().get(field));
+            found[field.ordinal()] = keywords.stream()
+                    .map(set -> set.stream().anyMatch(keyword ->
+                            StringUtil.containsWordIgnoreCase(field.getText(internship), keyword)))
+                    .reduce((a, b) -> a || b).orElse(isMatchAll);
+        }
+        boolean result = isMatchAll;
+        for (boolean isFound : found) {
+            result = isMatchAll ? result && isFound : result || isFound;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.InternshipBuilder;
+import seedu.address.testutil.SyntheticInternships;
+
+public class InternshipSortKeyTest {
+
+    private static final List<Internship> INTERNSHIPS = SyntheticInternships.generate(500, 18);
+
+    private static List<InternshipSortKey> sortKeys(boolean isAscending) {
+        return List.of(
+                InternshipSortKey.byText(internship -> internship.getCompanyName().toString(), isAscending),
+                InternshipSortKey.byText(internship -> internship.getRemark().toString(), isAscending),
+                InternshipSortKey.byInt(internship -> internship.getApplicationStatus().getStatus().ordinal(),
+                        isAscending),
+                InternshipSortKey.byNumber(internship -> internship.getContactNumber().toString(), isAscending));
+    }
+
+    private static int signum(int comparison) {
+        return Integer.signum(comparison);
+    }
+
+    @Test
+    public void sort_syntheticInternships_sameOrderAsSortKeyThenId() {
+        for (boolean isAscending : new boolean[] {true, false}) {
+            for (InternshipSortKey sortKey : sortKeys(isAscending)) {
+                List<Internship> expected = new ArrayList<>(INTERNSHIPS);
+                expected.sort(sortKey.thenComparingInt(Internship::getId));
+                assertEquals(expected, sortKey.sort(INTERNSHIPS));
+            }
+        }
+    }
+
+    @Test
+    public void sort_internshipsNotInOrderOfId_tiesStillOrderedById() {
+        List<Internship> shuffled = new ArrayList<>(INTERNSHIPS);
+        Collections.shuffle(shuffled, new Random(18));
+        for (InternshipSortKey sortKey : sortKeys(false)) {
+            List<Internship> expected = new ArrayList<>(INTERNSHIPS);
+            expected.sort(sortKey.thenComparingInt(Internship::getId));
+            assertEquals(expected, sortKey.sort(shuffled));
+        }
+    }
+
+    @Test
+    public void sort_compoundKey_sameOrderAsThenComparing() {
+        List<InternshipSortKey> sortKeys = List.of(
+                InternshipSortKey.byInt(internship -> internship.getLocation().getLocation().ordinal(), false),
+                InternshipSortKey.byText(internship -> internship.getContactName().toString(), true),
+                InternshipSortKey.byNumber(internship -> internship.getContactNumber().toString(), false));
+        InternshipSortKey compound = InternshipSortKey.compound(sortKeys);
+        Comparator<Internship> thenComparing = sortKeys.get(0).thenComparing(sortKeys.get(1))
+                .thenComparing(sortKeys.get(2));
+
+        List<Internship> expected = new ArrayList<>(INTERNSHIPS);
+        expected.sort(thenComparing.thenComparingInt(Internship::getId));
+        assertEquals(expected, compound.sort(INTERNSHIPS));
+
+        for (int i = 1; i < INTERNSHIPS.size(); i++) {
+            Internship first = INTERNSHIPS.get(i - 1);
+            Internship second = INTERNSHIPS.get(i);
+            assertEquals(signum(thenComparing.compare(first, second)), signum(compound.compare(first, second)));
+        }
+    }
+
+    @Test
+    public void compound_noSortKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> InternshipSortKey.compound(List.of()));
+    }
+
+    @Test
+    public void compare_textKey_sameAsCaseInsensitiveOrder() {
+        String[] texts = {"abc", "ABD", "_x", "Zeta", "zeta", "ß", "SS", "İ", "i", "ı", "I"};
+        InternshipSortKey sortKey = InternshipSortKey.byText(internship -> internship.getRemark().toString(), true);
+        for (String first : texts) {
+            for (String second : texts) {
+                int expected = String.CASE_INSENSITIVE_ORDER.compare(first, second);
+                assertEquals(signum(expected),
+                        signum(InternshipSortKey.fold(first).compareTo(InternshipSortKey.fold(second))));
+                assertEquals(expected, sortKey.compare(new InternshipBuilder().withRemark(first).build(),
+                        new InternshipBuilder().withRemark(second).build()));
+            }
+        }
+    }
+
+    @Test
+    public void compare_numberKey_numericOrder() {
+        InternshipSortKey sortKey = InternshipSortKey.byNumber(
+                internship -> internship.getContactNumber().toString(), true);
+        String[] ascendingNumbers = {"0001234", "9999999", "10000000", "9999999999999999999",
+            "10000000000000000000", "10000000000000000001"};
+        for (int i = 1; i < ascendingNumbers.length; i++) {
+            Internship smaller = new InternshipBuilder().withContactNumber(ascendingNumbers[i - 1]).build();
+            Internship larger = new InternshipBuilder().withContactNumber(ascendingNumbers[i]).build();
+            assertEquals(-1, sortKey.compare(smaller, larger));
+            assertEquals(1, sortKey.compare(larger, smaller));
+        }
+        assertEquals(0, sortKey.compare(new InternshipBuilder().withContactNumber("01234567").build(),
+                new InternshipBuilder().withContactNumber("1234567").build()));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.InternshipCommandTestUtil.VALID_COMPANY_NAME_BOB;
 import static seedu.address.model.util.InternshipSampleDataUtil.EMPTY_REMARK;
@@ -9,6 +11,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
 import static seedu.address.testutil.TypicalInternships.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.InternshipBuilder;
@@ -135,4 +139,63 @@ public class InternshipTest {
         editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withTaskList("Task 1;Task 2").build();
         assertTrue(ALICE_MICROSOFT.equals(editedAlice));
     }
+
+    @Test
+    public void getId() {
+        // fresh ids are unique
+        Internship aliceCopy = new InternshipBuilder(ALICE_MICROSOFT).build();
+        assertFalse(ALICE_MICROSOFT.getId() == aliceCopy.getId());
+
+        // id is not part of equality
+        Internship aliceWithId = new Internship(ALICE_MICROSOFT.getId() + 1000, ALICE_MICROSOFT.getCompanyName(),
+                ALICE_MICROSOFT.getContactName(), ALICE_MICROSOFT.getContactEmail(),
+                ALICE_MICROSOFT.getContactNumber(), ALICE_MICROSOFT.getLocation(),
+                ALICE_MICROSOFT.getApplicationStatus(), ALICE_MICROSOFT.getDescription(), ALICE_MICROSOFT.getRole(),
+                ALICE_MICROSOFT.getRemark(), ALICE_MICROSOFT.getTaskList());
+        assertTrue(ALICE_MICROSOFT.equals(aliceWithId));
+
+        // ids handed out later never clash with explicitly given ids
+        assertTrue(new InternshipBuilder(ALICE_MICROSOFT).build().getId() > aliceWithId.getId());
+
+        // negative id -> throws IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new Internship(-1, ALICE_MICROSOFT.getCompanyName(),
+                ALICE_MICROSOFT.getContactName(), ALICE_MICROSOFT.getContactEmail(),
+                ALICE_MICROSOFT.getContactNumber(), ALICE_MICROSOFT.getLocation(),
+                ALICE_MICROSOFT.getApplicationStatus(), ALICE_MICROSOFT.getDescription(), ALICE_MICROSOFT.getRole(),
+                ALICE_MICROSOFT.getRemark(), ALICE_MICROSOFT.getTaskList()));
+
+        // largest integer -> throws IllegalArgumentException, as no id could be handed out after it
+        assertThrows(IllegalArgumentException.class, () -> new Internship(Integer.MAX_VALUE,
+                ALICE_MICROSOFT.getCompanyName(), ALICE_MICROSOFT.getContactName(),
+                ALICE_MICROSOFT.getContactEmail(), ALICE_MICROSOFT.getContactNumber(), ALICE_MICROSOFT.getLocation(),
+                ALICE_MICROSOFT.getApplicationStatus(), ALICE_MICROSOFT.getDescription(), ALICE_MICROSOFT.getRole(),
+                ALICE_MICROSOFT.getRemark(), ALICE_MICROSOFT.getTaskList()));
+    }
+
+    @Test
+    public void isValidStoredId() {
+        // invalid ids
+        assertFalse(Internship.isValidStoredId(-1, 10));
+        assertFalse(Internship.isValidStoredId(Internship.getMaxStoredId(10) + 1, 10));
+        assertFalse(Internship.isValidStoredId(Integer.MAX_VALUE - 1, 10));
+
+        // valid ids
+        assertTrue(Internship.isValidStoredId(0, 1));
+        assertTrue(Internship.isValidStoredId(Internship.getMaxStoredId(10), 10));
+
+        // the bound grows with the number of internships, but never to the largest integer
+        assertTrue(Internship.getMaxStoredId(1000) > Internship.getMaxStoredId(10));
+        assertEquals(Integer.MAX_VALUE - 1, Internship.getMaxStoredId(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getWords() {
+        Internship internship = new InternshipBuilder().withCompanyName("Hewlett  Packard")
+                .withRole("Software Engineer").build();
+        assertEquals(Set.of("hewlett", "packard"), internship.getWords(SearchableField.COMPANY_NAME));
+        assertEquals(Set.of("software", "engineer"), internship.getWords(SearchableField.ROLE));
+
+        // words are only split out once
+        assertSame(internship.getWords(SearchableField.ROLE), internship.getWords(SearchableField.ROLE));
+    }
 }
@@ -6,14 +6,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
 import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.CARL_OPENAI;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.internship.exceptions.DuplicateInternshipException;
+import seedu.address.model.internship.exceptions.DuplicateInternshipIdException;
 import seedu.address.model.internship.exceptions.InternshipNotFoundException;
 import seedu.address.testutil.InternshipBuilder;
 
@@ -109,6 +114,48 @@ public class UniqueInternshipListTest {
                 BENSON_GOOGLE));
     }
 
+    @Test
+    public void setInternship_staleTargetWithSameId_replacesCurrentRecord() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        Internship rejectedAlice = withIdOf(ALICE_MICROSOFT,
+                new InternshipBuilder(ALICE_MICROSOFT).withApplicationStatus("rejected").build());
+        uniqueInternshipList.setInternship(ALICE_MICROSOFT, rejectedAlice);
+
+        // ALICE_MICROSOFT is no longer in the list by value, but is still found through its id
+        Internship acceptedAlice = withIdOf(ALICE_MICROSOFT,
+                new InternshipBuilder(ALICE_MICROSOFT).withApplicationStatus("accepted").build());
+        uniqueInternshipList.setInternship(ALICE_MICROSOFT, acceptedAlice);
+        assertEquals(Collections.singletonList(acceptedAlice), uniqueInternshipList.asUnmodifiableObservableList());
+        assertEquals(acceptedAlice, uniqueInternshipList.getById(ALICE_MICROSOFT.getId()).get());
+
+        uniqueInternshipList.remove(ALICE_MICROSOFT);
+        assertTrue(uniqueInternshipList.isEmpty());
+        assertFalse(uniqueInternshipList.getById(ALICE_MICROSOFT.getId()).isPresent());
+    }
+
+    @Test
+    public void setInternship_editedInternshipHasIdOfAnotherInternship_throwsDuplicateInternshipException() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        uniqueInternshipList.add(CARL_OPENAI);
+        uniqueInternshipList.takeChanges();
+        uniqueInternshipList.add(HOON_APPLE);
+        Internship editedAlice = withIdOf(BENSON_GOOGLE,
+                new InternshipBuilder(ALICE_MICROSOFT).withApplicationStatus("rejected").build());
+        assertThrows(DuplicateInternshipException.class, () -> uniqueInternshipList.setInternship(ALICE_MICROSOFT,
+                editedAlice));
+    }
+
+    @Test
+    public void getById_afterRemoval_returnsShiftedInternships() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        uniqueInternshipList.remove(ALICE_MICROSOFT);
+        assertEquals(BENSON_GOOGLE, uniqueInternshipList.getById(BENSON_GOOGLE.getId()).get());
+        uniqueInternshipList.remove(BENSON_GOOGLE);
+        assertTrue(uniqueInternshipList.isEmpty());
+    }
+
     @Test
     public void remove_nullInternship_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueInternshipList.remove(null));
@@ -164,6 +211,58 @@ public class UniqueInternshipListTest {
                 uniqueInternshipList.setInternships(listWithDuplicateInternships));
     }
 
+    @Test
+    public void setInternships_listWithSameIdentityInternships_throwsDuplicateInternshipException() {
+        Internship editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withApplicationStatus("rejected").build();
+        List<Internship> listWithDuplicateInternships = Arrays.asList(ALICE_MICROSOFT, BENSON_GOOGLE, editedAlice);
+        assertThrows(DuplicateInternshipException.class, () ->
+                uniqueInternshipList.setInternships(listWithDuplicateInternships));
+    }
+
+    @Test
+    public void setInternships_listWithSharedIds_throwsDuplicateInternshipIdException() {
+        List<Internship> listWithSharedIds = Arrays.asList(ALICE_MICROSOFT, withIdOf(ALICE_MICROSOFT, BENSON_GOOGLE));
+        assertThrows(DuplicateInternshipIdException.class, () ->
+                uniqueInternshipList.setInternships(listWithSharedIds));
+        assertTrue(uniqueInternshipList.isEmpty());
+    }
+
+    @Test
+    public void contains_afterMutations_tracksIdentityOfCurrentInternships() {
+        Internship editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withRole("Data Analyst").build();
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.setInternship(ALICE_MICROSOFT, editedAlice);
+        assertFalse(uniqueInternshipList.contains(ALICE_MICROSOFT));
+        assertTrue(uniqueInternshipList.contains(editedAlice));
+
+        // identity freed by an edit can be reused
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.remove(editedAlice);
+        assertFalse(uniqueInternshipList.contains(editedAlice));
+
+        uniqueInternshipList.setInternships(Collections.singletonList(BENSON_GOOGLE));
+        assertFalse(uniqueInternshipList.contains(ALICE_MICROSOFT));
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        assertTrue(uniqueInternshipList.contains(ALICE_MICROSOFT));
+    }
+
+    @Test
+    public void setInternship_afterSeveralRemovals_replacesShiftedInternship() {
+        uniqueInternshipList.setInternships(Arrays.asList(ALICE_MICROSOFT, BENSON_GOOGLE, CARL_OPENAI, HOON_APPLE));
+        uniqueInternshipList.remove(ALICE_MICROSOFT);
+        uniqueInternshipList.remove(CARL_OPENAI);
+
+        assertEquals(HOON_APPLE, uniqueInternshipList.getById(HOON_APPLE.getId()).get());
+        assertEquals(BENSON_GOOGLE, uniqueInternshipList.getById(BENSON_GOOGLE.getId()).get());
+        assertFalse(uniqueInternshipList.getById(CARL_OPENAI.getId()).isPresent());
+
+        Internship editedHoon = withIdOf(HOON_APPLE, new InternshipBuilder(HOON_APPLE).withRole("Data Analyst").build());
+        uniqueInternshipList.setInternship(HOON_APPLE, editedHoon);
+        uniqueInternshipList.remove(BENSON_GOOGLE);
+        assertEquals(List.of(editedHoon), uniqueInternshipList.asUnmodifiableObservableList());
+        assertEquals(editedHoon, uniqueInternshipList.getById(HOON_APPLE.getId()).get());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -218,6 +317,62 @@ public class UniqueInternshipListTest {
         assertTrue(internshipList.contains(BENSON_GOOGLE));
     }
 
+    @Test
+    public void takeChanges_addSetRemove_changesRecordedById() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        uniqueInternshipList.add(CARL_OPENAI);
+        uniqueInternshipList.takeChanges();
+        uniqueInternshipList.add(HOON_APPLE);
+        Internship editedAlice = withIdOf(ALICE_MICROSOFT, new InternshipBuilder(ALICE_MICROSOFT)
+                .withRemark("edited").build());
+        uniqueInternshipList.setInternship(ALICE_MICROSOFT, editedAlice);
+        uniqueInternshipList.remove(BENSON_GOOGLE);
+
+        Map<Integer, Internship> replayed = new LinkedHashMap<>();
+        replayed.put(ALICE_MICROSOFT.getId(), ALICE_MICROSOFT);
+        replayed.put(BENSON_GOOGLE.getId(), BENSON_GOOGLE);
+        replayed.put(CARL_OPENAI.getId(), CARL_OPENAI);
+        InternshipChanges changes = uniqueInternshipList.takeChanges();
+        assertFalse(changes.replacesAll());
+        assertEquals(3, changes.getChanges().size());
+        assertEquals(BENSON_GOOGLE.getId(), changes.getChanges().get(2).getId());
+        assertFalse(changes.getChanges().get(2).getInternship().isPresent());
+        changes.applyTo(replayed);
+        assertEquals(List.of(editedAlice, CARL_OPENAI, HOON_APPLE), List.copyOf(replayed.values()));
+
+        // the changes are only taken once
+        assertTrue(uniqueInternshipList.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_setInternships_recordedAsReplacingAll() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.setInternships(List.of(BENSON_GOOGLE));
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+
+        Map<Integer, Internship> replayed = new LinkedHashMap<>();
+        replayed.put(HOON_APPLE.getId(), HOON_APPLE);
+        InternshipChanges changes = uniqueInternshipList.takeChanges();
+        assertTrue(changes.replacesAll());
+        assertEquals(1, changes.getChanges().size());
+        changes.applyTo(replayed);
+        assertEquals(List.of(BENSON_GOOGLE, ALICE_MICROSOFT), List.copyOf(replayed.values()));
+    }
+
+    @Test
+    public void takeChanges_moreChangesThanInternships_recordedAsReplacingAll() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        uniqueInternshipList.remove(ALICE_MICROSOFT);
+
+        InternshipChanges changes = uniqueInternshipList.takeChanges();
+        assertTrue(changes.replacesAll());
+        Map<Integer, Internship> replayed = new LinkedHashMap<>();
+        changes.applyTo(replayed);
+        assertEquals(List.of(BENSON_GOOGLE), List.copyOf(replayed.values()));
+    }
+
     @Test
     public void testEquals() {
         UniqueInternshipList internshipList1 = new UniqueInternshipList();
@@ -247,4 +402,11 @@ public class UniqueInternshipListTest {
         internshipList.add(ALICE_MICROSOFT);
         assertEquals(internshipList.toString(), internshipList.asUnmodifiableObservableList().toString());
     }
+
+    private static Internship withIdOf(Internship idSource, Internship internship) {
+        return new Internship(idSource.getId(), internship.getCompanyName(), internship.getContactName(),
+                internship.getContactEmail(), internship.getContactNumber(), internship.getLocation(),
+                internship.getApplicationStatus(), internship.getDescription(), internship.getRole(),
+                internship.getRemark(), internship.getTaskList());
+    }
 }
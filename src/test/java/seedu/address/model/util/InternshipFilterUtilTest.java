@@ -0,0 +1,40 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+import seedu.address.testutil.SyntheticInternships;
+
+public class InternshipFilterUtilTest {
+
+    @Test
+    public void getMatchingIds_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> InternshipFilterUtil.getMatchingIds(null, unused -> true));
+        assertThrows(NullPointerException.class, () -> InternshipFilterUtil.getMatchingIds(List.of(), null));
+    }
+
+    @Test
+    public void getMatchingIds_parallel_sameAsSequential() {
+        List<Internship> internships = SyntheticInternships.generate(20_000, 17);
+        List<Predicate<Internship>> predicates = List.of(
+                new InternshipContainsKeywordsPredicate("Google", null, "remote", null, null, null, null, true),
+                new InternshipContainsKeywordsPredicate(null, "Tan", null, "pending", "cloud", null, null, false),
+                internship -> internship.getTaskListSize() > 1);
+
+        for (Predicate<Internship> predicate : predicates) {
+            BitSet sequential = InternshipFilterUtil.getMatchingIds(internships, predicate, Integer.MAX_VALUE);
+            BitSet parallel = InternshipFilterUtil.getMatchingIds(internships, predicate, 0);
+            assertEquals(sequential, parallel);
+            assertTrue(sequential.cardinality() > 0);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.testutil.SyntheticInternships;
+
+public class BinaryCachedInternshipDataStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * A JSON storage that counts the number of times it is read from.
+     */
+    private static class CountingJsonStorage extends JsonInternshipDataStorage {
+        private int readCount;
+
+        CountingJsonStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) throws DataLoadingException {
+            readCount++;
+            return super.readInternshipData(filePath);
+        }
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        assertFalse(new BinaryCachedInternshipDataStorage(new JsonInternshipDataStorage(filePath))
+                .readInternshipData().isPresent());
+        assertFalse(Files.exists(BinaryCachedInternshipDataStorage.getCacheFilePath(filePath)));
+    }
+
+    @Test
+    public void read_afterSave_loadedFromBinaryCopy() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        InternshipData original = getTypicalInternshipData();
+        new BinaryCachedInternshipDataStorage(new JsonInternshipDataStorage(filePath)).saveInternshipData(original);
+        assertTrue(Files.exists(BinaryCachedInternshipDataStorage.getCacheFilePath(filePath)));
+
+        CountingJsonStorage jsonStorage = new CountingJsonStorage(filePath);
+        ReadOnlyInternshipData readBack = new BinaryCachedInternshipDataStorage(jsonStorage).readInternshipData().get();
+
+        assertEquals(0, jsonStorage.readCount);
+        assertEquals(original, new InternshipData(readBack));
+        assertEquals(original.getInternshipList().get(0).getTaskList(),
+                readBack.getInternshipList().get(0).getTaskList());
+        assertEquals(original.getInternshipList().get(0).getId(), readBack.getInternshipList().get(0).getId());
+    }
+
+    @Test
+    public void read_largeData_loadedFromBinaryCopy() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        InternshipData original = new InternshipData();
+        original.setInternships(SyntheticInternships.generate(2000, 1));
+        new BinaryCachedInternshipDataStorage(new JsonInternshipDataStorage(filePath)).saveInternshipData(original);
+
+        CountingJsonStorage jsonStorage = new CountingJsonStorage(filePath);
+        ReadOnlyInternshipData readBack = new BinaryCachedInternshipDataStorage(jsonStorage).readInternshipData().get();
+
+        assertEquals(0, jsonStorage.readCount);
+        assertEquals(original, new InternshipData(readBack));
+    }
+
+    @Test
+    public void read_jsonChangedSinceSave_loadedFromJsonAndCopyRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new BinaryCachedInternshipDataStorage(new JsonInternshipDataStorage(filePath))
+                .saveInternshipData(getTypicalInternshipData());
+        InternshipData edited = getTypicalInternshipData();
+        edited.addInternship(HOON_APPLE);
+        new JsonInternshipDataStorage(filePath).saveInternshipData(edited);
+
+        CountingJsonStorage jsonStorage = new CountingJsonStorage(filePath);
+        BinaryCachedInternshipDataStorage storage = new BinaryCachedInternshipDataStorage(jsonStorage);
+        assertEquals(edited, new InternshipData(storage.readInternshipData().get()));
+        assertEquals(1, jsonStorage.readCount);
+
+        // The rewritten copy is used from then on, and the previous copy is not kept
+        assertEquals(edited, new InternshipData(storage.readInternshipData().get()));
+        assertEquals(1, jsonStorage.readCount);
+        assertFalse(Files.exists(
+                FileUtil.getBackupFilePath(BinaryCachedInternshipDataStorage.getCacheFilePath(filePath))));
+    }
+
+    @Test
+    public void read_corruptedCopy_loadedFromJson() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path cachePath = BinaryCachedInternshipDataStorage.getCacheFilePath(filePath);
+        InternshipData original = getTypicalInternshipData();
+        new BinaryCachedInternshipDataStorage(new JsonInternshipDataStorage(filePath)).saveInternshipData(original);
+
+        byte[] bytes = Files.readAllBytes(cachePath);
+        Files.write(cachePath, Arrays.copyOf(bytes, bytes.length - 7));
+
+        CountingJsonStorage jsonStorage = new CountingJsonStorage(filePath);
+        assertEquals(original,
+                new InternshipData(new BinaryCachedInternshipDataStorage(jsonStorage).readInternshipData().get()));
+        assertEquals(1, jsonStorage.readCount);
+    }
+}
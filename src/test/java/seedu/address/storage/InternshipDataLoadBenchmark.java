@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.InternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.SyntheticInternships;
+
+/**
+ * Start-up load benchmark for the internship data file at 1k, 10k and 100k records.
+ *
+ * For every size, a data file is generated and loaded through {@link JsonInternshipDataStorage} and through
+ * {@link StreamingJsonInternshipDataStorage}, and from the binary copy kept by
+ * {@link BinaryCachedInternshipDataStorage}, which is the path taken by {@code MainApp} on launch.
+ * The model-building step is also measured on its own, both through the bulk-loading path and through the
+ * previous per-record scan-and-add loop. The per-record loop is quadratic and is skipped above
+ * {@value #MAX_PER_RECORD_SIZE} records.
+ *
+ * Run with {@code ./gradlew loadBenchmark}.
+ */
+public class InternshipDataLoadBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int MAX_PER_RECORD_SIZE = 10_000;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%10s %16s %16s %16s %16s %16s%n", "records", "file load (ms)", "streamed (ms)",
+                "binary (ms)", "bulk build (ms)", "per-record (ms)");
+        for (int size : SIZES) {
+            List<Internship> internships = SyntheticInternships.generate(size, size);
+            Path file = Files.createTempFile("internshipdata", ".json");
+            JsonUtil.saveJsonFile(new JsonSerializableInternshipData(internships.stream()
+                    .map(JsonAdaptedInternship::new).collect(Collectors.toList())), file);
+            JsonInternshipDataStorage storage = new JsonInternshipDataStorage(file);
+            StreamingJsonInternshipDataStorage streamingStorage = new StreamingJsonInternshipDataStorage(file);
+            BinaryCachedInternshipDataStorage cachedStorage = new BinaryCachedInternshipDataStorage(storage);
+            cachedStorage.readInternshipData();
+
+            double fileLoad = bestOf(() -> storage.readInternshipData().get());
+            double streamedLoad = bestOf(() -> streamingStorage.readInternshipData().get());
+            double binaryLoad = bestOf(() -> cachedStorage.readInternshipData().get());
+            double bulkBuild = bestOf(() -> new InternshipData().setInternships(internships));
+            String perRecord = size > MAX_PER_RECORD_SIZE
+                    ? "skipped"
+                    : String.format("%.1f", bestOf(() -> loadPerRecord(internships)));
+            System.out.printf("%10d %16.1f %16.1f %16.1f %16.1f %16s%n", size, fileLoad, streamedLoad, binaryLoad,
+                    bulkBuild, perRecord);
+            Files.delete(file);
+            Files.delete(BinaryCachedInternshipDataStorage.getCacheFilePath(file));
+        }
+    }
+
+    /**
+     * Builds the list the way {@code JsonSerializableInternshipData#toModelType} used to: a linear identity scan
+     * followed by a single-element insert, with one change event, for every record.
+     */
+    private static void loadPerRecord(List<Internship> internships) {
+        ObservableList<Internship> list = FXCollections.observableArrayList();
+        for (Internship internship : internships) {
+            if (list.stream().anyMatch(internship::isSameInternship)) {
+                throw new IllegalStateException("duplicate internship");
+            }
+            list.add(internship);
+        }
+    }
+
+    private static double bestOf(Action action) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws Exception;
+    }
+}
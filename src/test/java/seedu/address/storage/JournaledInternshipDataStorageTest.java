@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.IDA_NETFLIX;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.InternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
+
+public class JournaledInternshipDataStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledInternshipDataStorage createStorage(Path filePath, int maxJournalEntries) {
+        return new JournaledInternshipDataStorage(new JsonInternshipDataStorage(filePath), maxJournalEntries,
+                JournaledInternshipDataStorage.DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    private InternshipData readBack(Path filePath) throws Exception {
+        return new InternshipData(createStorage(filePath, 1).readInternshipData().get());
+    }
+
+    /**
+     * Saves the changes made to {@code data} since they were last taken.
+     */
+    private static void saveChanges(JournaledInternshipDataStorage storage, InternshipData data) throws IOException {
+        storage.saveInternshipDataChanges(data, data.takeChanges());
+    }
+
+    @Test
+    public void constructor_invalidThresholds_throwsIllegalArgumentException() {
+        JsonInternshipDataStorage snapshotStorage = new JsonInternshipDataStorage(testFolder.resolve("data.json"));
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledInternshipDataStorage(snapshotStorage, 0, 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledInternshipDataStorage(snapshotStorage, 1, 0));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json"), 1).readInternshipData().isPresent());
+    }
+
+    @Test
+    public void save_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledInternshipDataStorage.getJournalFilePath(filePath);
+        JournaledInternshipDataStorage storage = createStorage(filePath, 100);
+        InternshipData data = getTypicalInternshipData();
+
+        // First save writes a snapshot
+        saveChanges(storage, data);
+        assertFalse(Files.exists(journalPath));
+        String snapshot = Files.readString(filePath);
+
+        data.addInternship(HOON_APPLE);
+        data.setInternship(ALICE_MICROSOFT, new InternshipBuilder(ALICE_MICROSOFT).withRemark("edited")
+                .withId(ALICE_MICROSOFT.getId()).build());
+        saveChanges(storage, data);
+        data.removeInternship(BENSON_GOOGLE);
+        saveChanges(storage, data);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(data, readBack(filePath));
+
+        // Saving unchanged data appends nothing
+        saveChanges(storage, data);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void save_afterReadingDataFile_changesAppendedToExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledInternshipDataStorage.getJournalFilePath(filePath);
+        InternshipData data = getTypicalInternshipData();
+        JournaledInternshipDataStorage storage = createStorage(filePath, 3);
+        saveChanges(storage, data);
+        data.addInternship(HOON_APPLE);
+        saveChanges(storage, data);
+        String snapshot = Files.readString(filePath);
+
+        // a restarted app carries on with the journal and counts the records already in it
+        JournaledInternshipDataStorage restartedStorage = createStorage(filePath, 3);
+        InternshipData restartedData = new InternshipData(restartedStorage.readInternshipData().get());
+        restartedData.removeInternship(BENSON_GOOGLE);
+        saveChanges(restartedStorage, restartedData);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        restartedData.addInternship(IDA_NETFLIX);
+        saveChanges(restartedStorage, restartedData);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(restartedData, readBack(filePath));
+    }
+
+    @Test
+    public void save_afterReadingTornJournal_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledInternshipDataStorage.getJournalFilePath(filePath);
+        InternshipData data = getTypicalInternshipData();
+        JournaledInternshipDataStorage storage = createStorage(filePath, 100);
+        saveChanges(storage, data);
+        data.addInternship(HOON_APPLE);
+        saveChanges(storage, data);
+        Files.write(journalPath, "1234".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledInternshipDataStorage restartedStorage = createStorage(filePath, 100);
+        InternshipData restartedData = new InternshipData(restartedStorage.readInternshipData().get());
+        restartedData.addInternship(IDA_NETFLIX);
+        saveChanges(restartedStorage, restartedData);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(restartedData, readBack(filePath));
+    }
+
+    @Test
+    public void save_journalFull_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledInternshipDataStorage storage = createStorage(filePath, 2);
+        InternshipData data = getTypicalInternshipData();
+        saveChanges(storage, data);
+
+        data.addInternship(HOON_APPLE);
+        saveChanges(storage, data);
+        assertTrue(Files.exists(JournaledInternshipDataStorage.getJournalFilePath(filePath)));
+
+        data.addInternship(IDA_NETFLIX);
+        saveChanges(storage, data);
+        assertFalse(Files.exists(JournaledInternshipDataStorage.getJournalFilePath(filePath)));
+        assertEquals(data, new InternshipData(new JsonInternshipDataStorage(filePath).readInternshipData().get()));
+    }
+
+    @Test
+    public void read_backupAfterSnapshotRewritten_allSavedChangesReplayed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledInternshipDataStorage storage = new JournaledInternshipDataStorage(
+                new StreamingJsonInternshipDataStorage(filePath), 2,
+                JournaledInternshipDataStorage.DEFAULT_MAX_JOURNAL_BYTES);
+        InternshipData data = getTypicalInternshipData();
+        saveChanges(storage, data);
+        data.addInternship(HOON_APPLE);
+        saveChanges(storage, data);
+        // the journal is full, so the snapshot is rewritten and the journal kept with the backup
+        data.removeInternship(BENSON_GOOGLE);
+        saveChanges(storage, data);
+        data.addInternship(IDA_NETFLIX);
+        saveChanges(storage, data);
+
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        assertTrue(Files.exists(JournaledInternshipDataStorage.getJournalFilePath(backupFilePath)));
+        assertEquals(data, new InternshipData(storage.readInternshipData(backupFilePath).get()));
+    }
+
+    @Test
+    public void save_reorderedInternships_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledInternshipDataStorage storage = createStorage(filePath, 100);
+        InternshipData data = getTypicalInternshipData();
+        saveChanges(storage, data);
+
+        List<Internship> reversed = new ArrayList<>(data.getInternshipList());
+        Collections.reverse(reversed);
+        data.setInternships(reversed);
+        saveChanges(storage, data);
+
+        assertFalse(Files.exists(JournaledInternshipDataStorage.getJournalFilePath(filePath)));
+        assertEquals(reversed, readBack(filePath).getInternshipList());
+    }
+
+    @Test
+    public void read_tornLastRecord_recordDropped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledInternshipDataStorage.getJournalFilePath(filePath);
+        JournaledInternshipDataStorage storage = createStorage(filePath, 100);
+        InternshipData data = getTypicalInternshipData();
+        saveChanges(storage, data);
+        data.addInternship(HOON_APPLE);
+        saveChanges(storage, data);
+
+        String record = Files.readAllLines(journalPath).get(0);
+        Files.write(journalPath, record.substring(0, record.length() / 2).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(data, readBack(filePath));
+    }
+
+    @Test
+    public void read_corruptedRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledInternshipDataStorage.getJournalFilePath(filePath);
+        JournaledInternshipDataStorage storage = createStorage(filePath, 100);
+        InternshipData data = getTypicalInternshipData();
+        saveChanges(storage, data);
+        data.addInternship(HOON_APPLE);
+        saveChanges(storage, data);
+        data.addInternship(IDA_NETFLIX);
+        saveChanges(storage, data);
+
+        List<String> records = new ArrayList<>(Files.readAllLines(journalPath));
+        records.set(0, records.get(0).replace("Apple", "Apples"));
+        Files.write(journalPath, records);
+
+        assertThrows(DataLoadingException.class, () -> readBack(filePath));
+    }
+}
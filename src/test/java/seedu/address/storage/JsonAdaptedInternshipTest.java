@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedInternship.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
@@ -16,6 +17,7 @@ import seedu.address.model.internship.ContactEmail;
 import seedu.address.model.internship.ContactName;
 import seedu.address.model.internship.ContactNumber;
 import seedu.address.model.internship.Description;
+import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Location;
 import seedu.address.model.internship.Role;
 import seedu.address.model.internship.Task;
@@ -46,6 +48,42 @@ public class JsonAdaptedInternshipTest {
         assertEquals(ALICE_MICROSOFT, internship.toModelType());
     }
 
+    @Test
+    public void toModelType_validInternshipDetails_keepsId() throws Exception {
+        JsonAdaptedInternship internship = new JsonAdaptedInternship(ALICE_MICROSOFT);
+        assertEquals(ALICE_MICROSOFT.getId(), internship.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedInternship internship =
+                new JsonAdaptedInternship(-1, VALID_COMPANY_NAME, VALID_CONTACT_NAME, VALID_CONTACT_EMAIL,
+                        VALID_CONTACT_NUMBER, VALID_LOCATION, VALID_APPLICATION_STATUS, VALID_DESCRIPTION, VALID_ROLE,
+                        VALID_REMARK, VALID_TASKLIST);
+        assertThrows(IllegalValueException.class, Internship.MESSAGE_ID_CONSTRAINTS, internship::toModelType);
+    }
+
+    @Test
+    public void toModelType_idFarBeyondInternshipCount_throwsIllegalValueException() {
+        JsonAdaptedInternship internship =
+                new JsonAdaptedInternship(Integer.MAX_VALUE - 1, VALID_COMPANY_NAME, VALID_CONTACT_NAME,
+                        VALID_CONTACT_EMAIL, VALID_CONTACT_NUMBER, VALID_LOCATION, VALID_APPLICATION_STATUS,
+                        VALID_DESCRIPTION, VALID_ROLE, VALID_REMARK, VALID_TASKLIST);
+        assertThrows(IllegalValueException.class, Internship.MESSAGE_ID_CONSTRAINTS, internship::toModelType);
+        assertThrows(IllegalValueException.class, Internship.MESSAGE_ID_CONSTRAINTS, () ->
+                internship.toModelType(1000));
+    }
+
+    @Test
+    public void toModelType_idFarBeyondInternshipCountInBulk_givenFreshId() throws Exception {
+        JsonAdaptedInternship internship =
+                new JsonAdaptedInternship(Integer.MAX_VALUE - 1, VALID_COMPANY_NAME, VALID_CONTACT_NAME,
+                        VALID_CONTACT_EMAIL, VALID_CONTACT_NUMBER, VALID_LOCATION, VALID_APPLICATION_STATUS,
+                        VALID_DESCRIPTION, VALID_ROLE, VALID_REMARK, VALID_TASKLIST);
+        assertTrue(internship.needsFreshId(1000));
+        assertEquals(7, internship.toModelType(1000, 7).getId());
+    }
+
     @Test
     public void toModelType_invalidCompanyName_throwsIllegalValueException() {
         JsonAdaptedInternship internship =
@@ -1,16 +1,24 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.InternshipData;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.ContactNumber;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.SyntheticInternships;
 import seedu.address.testutil.TypicalInternships;
 
 public class JsonSerializableInternshipDataTest {
@@ -22,6 +30,8 @@ public class JsonSerializableInternshipDataTest {
             .resolve("invalidInternshipInternshipData.json");
     private static final Path DUPLICATE_INTERNSHIP_FILE = TEST_DATA_FOLDER
             .resolve("duplicateInternshipInternshipData.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER
+            .resolve("duplicateIdInternshipData.json");
 
     @Test
     public void toModelType_typicalInternshipsFile_success() throws Exception {
@@ -46,4 +56,96 @@ public class JsonSerializableInternshipDataTest {
         assertThrows(IllegalValueException.class, JsonSerializableInternshipData.MESSAGE_DUPLICATE_INTERNSHIP,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableInternshipData dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableInternshipData.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableInternshipData.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_parallel_sameResultAsSequential() throws Exception {
+        List<Internship> internships = SyntheticInternships.generate(2000, 4);
+        JsonSerializableInternshipData data = new JsonSerializableInternshipData(internships.stream()
+                .map(JsonAdaptedInternship::new).collect(Collectors.toList()));
+        InternshipData sequential = data.toModelType();
+        InternshipData parallel = data.toModelType(0);
+        assertEquals(sequential, parallel);
+        for (int i = 0; i < internships.size(); i++) {
+            assertEquals(sequential.getInternshipList().get(i).getId(), parallel.getInternshipList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void toModelType_parallelWithInvalidInternships_throwsFirstError() throws Exception {
+        List<JsonAdaptedInternship> records = new ArrayList<>();
+        for (Internship internship : SyntheticInternships.generate(1000, 5)) {
+            records.add(new JsonAdaptedInternship(internship));
+        }
+        records.set(600, invalidRecord("94351253", ""));
+        records.set(300, invalidRecord("+651234", "Microsoft"));
+        JsonSerializableInternshipData data = new JsonSerializableInternshipData(records);
+        for (int run = 0; run < 20; run++) {
+            assertThrows(IllegalValueException.class, ContactNumber.MESSAGE_CONSTRAINTS, () -> data.toModelType(0));
+        }
+        assertThrows(IllegalValueException.class, ContactNumber.MESSAGE_CONSTRAINTS, data::toModelType);
+
+        records.set(300, invalidRecord("94351253", "Microsoft"));
+        JsonSerializableInternshipData dataWithLaterError = new JsonSerializableInternshipData(records);
+        assertThrows(IllegalValueException.class, CompanyName.MESSAGE_CONSTRAINTS, () ->
+                dataWithLaterError.toModelType(0));
+    }
+
+    @Test
+    public void toModelType_invalidInternshipsWithAndWithoutIds_throwsFirstErrorInFileOrder() throws Exception {
+        List<JsonAdaptedInternship> records = new ArrayList<>();
+        for (Internship internship : SyntheticInternships.generate(1000, 6)) {
+            records.add(new JsonAdaptedInternship(internship));
+        }
+        // the record without an id comes first in the file, so its error is the one thrown
+        records.set(0, invalidRecord("+651234", "Microsoft"));
+        records.set(500, record(records.get(500).toModelType(records.size()).getId(), "94351253", ""));
+        JsonSerializableInternshipData data = new JsonSerializableInternshipData(records);
+        assertThrows(IllegalValueException.class, ContactNumber.MESSAGE_CONSTRAINTS, data::toModelType);
+        assertThrows(IllegalValueException.class, ContactNumber.MESSAGE_CONSTRAINTS, () -> data.toModelType(0));
+    }
+
+    @Test
+    public void toModelType_internshipsWithoutIds_givenIdsAboveStoredIds() throws Exception {
+        int storedId = SyntheticInternships.generate(1, 8).get(0).getId() + 100;
+        List<JsonAdaptedInternship> records = List.of(record(null, "94351253", "Microsoft"),
+                record(storedId, "94351253", "Google"), record(null, "94351253", "Amazon"));
+
+        List<Internship> loaded = new JsonSerializableInternshipData(records).toModelType(0).getInternshipList();
+        assertEquals(storedId, loaded.get(1).getId());
+        assertTrue(loaded.get(0).getId() > storedId);
+        assertEquals(loaded.get(0).getId() + 1, loaded.get(2).getId());
+    }
+
+    @Test
+    public void toModelType_idFarBeyondInternshipCount_givenFreshId() throws Exception {
+        int storedId = SyntheticInternships.generate(1, 8).get(0).getId() + 100;
+        List<JsonAdaptedInternship> records = List.of(record(Integer.MAX_VALUE - 1, "94351253", "Microsoft"),
+                record(storedId, "94351253", "Google"), record(null, "94351253", "Amazon"));
+
+        List<Internship> loaded = new JsonSerializableInternshipData(records).toModelType(0).getInternshipList();
+        assertEquals(3, loaded.size());
+        assertEquals(storedId, loaded.get(1).getId());
+        assertTrue(loaded.get(0).getId() > storedId);
+        assertEquals(loaded.get(0).getId() + 1, loaded.get(2).getId());
+    }
+
+    private static JsonAdaptedInternship invalidRecord(String contactNumber, String companyName) {
+        return record(null, contactNumber, companyName);
+    }
+
+    private static JsonAdaptedInternship record(Integer id, String contactNumber, String companyName) {
+        Internship alice = TypicalInternships.ALICE_MICROSOFT;
+        return new JsonAdaptedInternship(id, companyName, alice.getContactName().contactName,
+                alice.getContactEmail().value, contactNumber, alice.getLocation().toString(),
+                alice.getApplicationStatus().toString(), alice.getDescription().description + " copy",
+                alice.getRole().role, alice.getRemark().toString(), alice.getTaskList().getArrayListTaskList());
+    }
 }
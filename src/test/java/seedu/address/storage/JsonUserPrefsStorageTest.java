@@ -63,6 +63,16 @@ public class JsonUserPrefsStorageTest {
         assertEquals(new InternshipUserPrefs(), actual);
     }
 
+    @Test
+    public void readUserPrefs_nullSortSpec_noSortUsed() throws DataLoadingException {
+        InternshipUserPrefs actual = readUserPrefs("NullSortSpecUserPrefs.json").get();
+        assertEquals("", actual.getInternshipSortSpec());
+
+        InternshipUserPrefs expected = getTypicalUserPrefs();
+        expected.setInternshipSortSpec("");
+        assertEquals(expected, new InternshipUserPrefs(actual));
+    }
+
     @Test
     public void readUserPrefs_extraValuesInFile_extraValuesIgnored() throws DataLoadingException {
         InternshipUserPrefs expected = getTypicalUserPrefs();
@@ -75,6 +85,7 @@ public class JsonUserPrefsStorageTest {
         InternshipUserPrefs userPrefs = new InternshipUserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setInternshipDataFilePath(Paths.get("data\\internshipdata.json"));
+        userPrefs.setInternshipSortSpec("/status asc /com asc");
         return userPrefs;
     }
 
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.IDA_NETFLIX;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.SyntheticInternships;
+import seedu.address.testutil.TypicalInternships;
+
+public class StreamingJsonInternshipDataStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonInternshipDataStorageTest");
+    private static final Path TYPICAL_INTERNSHIPS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableInternshipDataTest", "typicalInternshipsInternshipData.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private Optional<ReadOnlyInternshipData> readInternshipData(String fileInTestDataFolder) throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve(fileInTestDataFolder);
+        return new StreamingJsonInternshipDataStorage(filePath).readInternshipData(filePath);
+    }
+
+    @Test
+    public void readInternshipData_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new StreamingJsonInternshipDataStorage(null).readInternshipData(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readInternshipData("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readInternshipData("notJsonFormatInternshipData.json"));
+    }
+
+    @Test
+    public void readInternshipData_invalidAndValidInternshipInternshipData_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                readInternshipData("invalidAndValidInternshipInternshipData.json"));
+    }
+
+    @Test
+    public void readInternshipData_typicalInternshipsFile_success() throws Exception {
+        ReadOnlyInternshipData readBack = new StreamingJsonInternshipDataStorage(TYPICAL_INTERNSHIPS_FILE)
+                .readInternshipData().get();
+        assertEquals(TypicalInternships.getTypicalInternshipData(), new InternshipData(readBack));
+    }
+
+    @Test
+    public void readAndSaveInternshipData_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipData.json");
+        InternshipData original = getTypicalInternshipData();
+        StreamingJsonInternshipDataStorage storage = new StreamingJsonInternshipDataStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveInternshipData(original, filePath);
+        ReadOnlyInternshipData readBack = storage.readInternshipData(filePath).get();
+        assertEquals(original, new InternshipData(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addInternship(HOON_APPLE);
+        original.removeInternship(ALICE_MICROSOFT);
+        storage.saveInternshipData(original);
+        readBack = storage.readInternshipData().get();
+        assertEquals(original, new InternshipData(readBack));
+
+        // Shrinking the data truncates the file
+        original.removeInternship(HOON_APPLE);
+        storage.saveInternshipData(original);
+        readBack = storage.readInternshipData().get();
+        assertEquals(original, new InternshipData(readBack));
+    }
+
+    @Test
+    public void saveInternshipData_sameFormatAsJsonStorage() throws Exception {
+        InternshipData original = getTypicalInternshipData();
+        original.addInternship(IDA_NETFLIX);
+        Path streamed = testFolder.resolve("streamed.json");
+        Path json = testFolder.resolve("json.json");
+        new StreamingJsonInternshipDataStorage(streamed).saveInternshipData(original);
+        new JsonInternshipDataStorage(json).saveInternshipData(original);
+        assertEquals(Files.readString(json), Files.readString(streamed));
+    }
+
+    @Test
+    public void saveInternshipData_compact_readableByJsonStorage() throws Exception {
+        List<Internship> internships = SyntheticInternships.generate(3000, 7);
+        InternshipData original = new InternshipData();
+        original.setInternships(internships);
+        Path filePath = testFolder.resolve("compact.json");
+        new StreamingJsonInternshipDataStorage(filePath, true, 0).saveInternshipData(original);
+
+        assertFalse(Files.readString(filePath).contains("\n"));
+        ReadOnlyInternshipData readBack = new JsonInternshipDataStorage(filePath).readInternshipData().get();
+        assertEquals(original, new InternshipData(readBack));
+
+        // ids and order survive a streamed, batched and parallel read
+        ReadOnlyInternshipData streamedBack = new StreamingJsonInternshipDataStorage(filePath, true, 0)
+                .readInternshipData().get();
+        for (int i = 0; i < internships.size(); i++) {
+            assertEquals(internships.get(i).getId(), streamedBack.getInternshipList().get(i).getId());
+        }
+        assertTrue(internships.size() > StreamingJsonInternshipDataStorage.BATCH_SIZE);
+    }
+
+    @Test
+    public void readInternshipData_manyInternshipsWithoutIds_givenDistinctIdsInFileOrder() throws Exception {
+        List<Internship> internships = SyntheticInternships.generate(3000, 9);
+        List<JsonAdaptedInternship> records = new ArrayList<>();
+        for (Internship internship : internships) {
+            records.add(new JsonAdaptedInternship(internship.getCompanyName().companyName,
+                    internship.getContactName().contactName, internship.getContactEmail().value,
+                    internship.getContactNumber().value, internship.getLocation().toString(),
+                    internship.getApplicationStatus().toString(), internship.getDescription().description,
+                    internship.getRole().role, internship.getRemark().toString(),
+                    internship.getTaskList().getArrayListTaskList()));
+        }
+        // a record with an id late in the file is not clashed with by the fresh ids given before it
+        records.set(2500, new JsonAdaptedInternship(internships.get(2500)));
+        Path filePath = testFolder.resolve("withoutIds.json");
+        JsonUtil.saveJsonFile(new JsonSerializableInternshipData(records), filePath);
+
+        List<Internship> readBack = new StreamingJsonInternshipDataStorage(filePath, false, 0).readInternshipData()
+                .get().getInternshipList();
+        assertEquals(internships, readBack);
+        assertEquals(internships.get(2500).getId(), readBack.get(2500).getId());
+        for (int i = 1; i < 2500; i++) {
+            assertEquals(readBack.get(i - 1).getId() + 1, readBack.get(i).getId());
+        }
+        assertTrue(readBack.get(0).getId() > internships.get(2500).getId());
+    }
+
+    @Test
+    public void readInternshipData_idFarBeyondInternshipCount_givenFreshId() throws Exception {
+        List<JsonAdaptedInternship> records = new ArrayList<>();
+        for (Internship internship : SyntheticInternships.generate(10, 10)) {
+            records.add(new JsonAdaptedInternship(internship));
+        }
+        Internship farId = records.get(3).toModelType();
+        records.set(3, new JsonAdaptedInternship(Integer.MAX_VALUE - 1, farId.getCompanyName().companyName,
+                farId.getContactName().contactName, farId.getContactEmail().value, farId.getContactNumber().value,
+                farId.getLocation().toString(), farId.getApplicationStatus().toString(),
+                farId.getDescription().description, farId.getRole().role, farId.getRemark().toString(),
+                farId.getTaskList().getArrayListTaskList()));
+        Path filePath = testFolder.resolve("farId.json");
+        JsonUtil.saveJsonFile(new JsonSerializableInternshipData(records), filePath);
+
+        List<Internship> readBack = new StreamingJsonInternshipDataStorage(filePath).readInternshipData().get()
+                .getInternshipList();
+        assertEquals(10, readBack.size());
+        assertEquals(farId, readBack.get(3));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(i == 3 || readBack.get(3).getId() > readBack.get(i).getId());
+        }
+    }
+
+    @Test
+    public void saveInternshipData_nullInternshipData_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.json");
+        assertThrows(NullPointerException.class, () ->
+                new StreamingJsonInternshipDataStorage(filePath).saveInternshipData(null));
+    }
+}
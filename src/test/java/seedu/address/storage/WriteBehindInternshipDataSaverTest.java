@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.CARL_OPENAI;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipChanges;
+
+public class WriteBehindInternshipDataSaverTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindInternshipDataSaver(null, new InternshipData()));
+        assertThrows(NullPointerException.class, () -> new WriteBehindInternshipDataSaver(new RecordingStorage(),
+                null));
+    }
+
+    @Test
+    public void save_null_throwsNullPointerException() {
+        WriteBehindInternshipDataSaver saver = new WriteBehindInternshipDataSaver(new RecordingStorage(),
+                new InternshipData());
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+        saver.close();
+    }
+
+    @Test
+    public void flush_afterSave_changesWrittenWithData() {
+        RecordingStorage storage = new RecordingStorage();
+        InternshipData data = new InternshipData();
+        data.addInternship(ALICE_MICROSOFT);
+        WriteBehindInternshipDataSaver saver = new WriteBehindInternshipDataSaver(storage, data);
+
+        data.addInternship(BENSON_GOOGLE);
+        InternshipChanges changes = data.takeChanges();
+        saver.save(changes);
+        saver.flush();
+
+        assertEquals(List.of(changes), storage.savedChanges);
+        assertEquals(List.of(List.of(ALICE_MICROSOFT, BENSON_GOOGLE)), storage.saved);
+        saver.close();
+    }
+
+    @Test
+    public void save_whileWriting_laterChangesWrittenTogetherNext() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        storage.blockWrites();
+        InternshipData data = new InternshipData();
+        WriteBehindInternshipDataSaver saver = new WriteBehindInternshipDataSaver(storage, data);
+        List<Internship> internships = List.of(ALICE_MICROSOFT, BENSON_GOOGLE, CARL_OPENAI, HOON_APPLE);
+
+        data.addInternship(internships.get(0));
+        saver.save(data.takeChanges());
+        storage.awaitWriteStarted();
+        for (int i = 1; i < internships.size(); i++) {
+            data.addInternship(internships.get(i));
+            saver.save(data.takeChanges());
+        }
+        storage.unblockWrites();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(internships.size() - 1, storage.savedChanges.get(1).getChanges().size());
+        assertEquals(internships, storage.saved.get(1));
+        saver.close();
+    }
+
+    @Test
+    public void save_afterFailedWrite_failedChangesWrittenWithData() {
+        RecordingStorage storage = new RecordingStorage();
+        storage.failWith(new IOException("dummy IO exception"));
+        InternshipData data = new InternshipData();
+        WriteBehindInternshipDataSaver saver = new WriteBehindInternshipDataSaver(storage, data);
+
+        data.addInternship(ALICE_MICROSOFT);
+        saver.save(data.takeChanges());
+        saver.flush();
+        storage.failWith(null);
+        saver.save(data.takeChanges());
+        saver.flush();
+
+        assertEquals(List.of(List.of(ALICE_MICROSOFT)), storage.saved);
+        saver.close();
+    }
+
+    @Test
+    public void save_storageThrowsIoException_errorHandlerCalled() {
+        IOException exception = new IOException("dummy IO exception");
+        RecordingStorage storage = new RecordingStorage();
+        storage.failWith(exception);
+        InternshipData internshipData = new InternshipData();
+        WriteBehindInternshipDataSaver saver = new WriteBehindInternshipDataSaver(storage, internshipData);
+        List<IOException> errors = new CopyOnWriteArrayList<>();
+        saver.setErrorHandler(errors::add);
+
+        internshipData.addInternship(ALICE_MICROSOFT);
+        saver.save(internshipData.takeChanges());
+        saver.flush();
+
+        assertEquals(List.of(exception), errors);
+        saver.close();
+    }
+
+    @Test
+    public void save_written_onWrittenRunOnlyAfterSuccessfulWrite() {
+        RecordingStorage storage = new RecordingStorage();
+        InternshipData internshipData = new InternshipData();
+        WriteBehindInternshipDataSaver saver = new WriteBehindInternshipDataSaver(storage, internshipData);
+        List<String> written = new CopyOnWriteArrayList<>();
+
+        saver.save(internshipData.takeChanges(), () -> written.add("first"));
+        saver.flush();
+        storage.failWith(new IOException("dummy IO exception"));
+        saver.save(internshipData.takeChanges(), () -> written.add("second"));
+        saver.flush();
+
+        assertEquals(List.of("first"), written);
+        saver.close();
+    }
+
+    /**
+     * An {@code InternshipDataStorage} that records the internships and changes it is asked to save.
+     */
+    private static class RecordingStorage implements InternshipDataStorage {
+        private final List<List<Internship>> saved = new CopyOnWriteArrayList<>();
+        private final List<InternshipChanges> savedChanges = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private CountDownLatch writesUnblocked = new CountDownLatch(0);
+        private IOException failure;
+
+        void blockWrites() {
+            writesUnblocked = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writesUnblocked.countDown();
+        }
+
+        void awaitWriteStarted() throws InterruptedException {
+            writeStarted.await(10, TimeUnit.SECONDS);
+        }
+
+        void failWith(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public Path getInternshipDataFilePath() {
+            return Paths.get("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyInternshipData> readInternshipData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveInternshipData(ReadOnlyInternshipData internshipData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveInternshipDataChanges(ReadOnlyInternshipData internshipData, InternshipChanges changes)
+                throws IOException {
+            writeStarted.countDown();
+            try {
+                writesUnblocked.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(List.copyOf(internshipData.getInternshipList()));
+            savedChanges.add(changes);
+        }
+
+        @Override
+        public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
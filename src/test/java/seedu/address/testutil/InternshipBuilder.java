@@ -38,6 +38,7 @@ public class InternshipBuilder {
     private Role role;
     private Remark remark;
     private TaskList taskList;
+    private Integer id;
 
     /**
      * Creates an {@code InternshipBuilder} with the default details.
@@ -151,10 +152,22 @@ public class InternshipBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Internship} that we are building. Without one, the internship is given a new id.
+     */
+    public InternshipBuilder withId(int id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Builds the Internship object.
      */
     public Internship build() {
+        if (id != null) {
+            return new Internship(id, companyName, contactName, contactEmail, contactNumber, location,
+                    applicationStatus, description, role, remark, taskList);
+        }
         return new Internship(companyName, contactName, contactEmail, contactNumber, location, applicationStatus,
                 description, role, remark, taskList);
     }
@@ -0,0 +1,81 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.internship.ApplicationStatus;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.ContactEmail;
+import seedu.address.model.internship.ContactName;
+import seedu.address.model.internship.ContactNumber;
+import seedu.address.model.internship.Description;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Location;
+import seedu.address.model.internship.Remark;
+import seedu.address.model.internship.Role;
+import seedu.address.model.internship.Task;
+import seedu.address.model.internship.TaskList;
+
+/**
+ * Generates large, reproducible sets of valid and mutually unique {@code Internship}s for benchmarks and
+ * scale tests.
+ */
+public class SyntheticInternships {
+
+    private static final String[] COMPANIES = {"Google", "Microsoft", "Amazon", "Meta", "Apple", "Netflix",
+        "Shopee", "Grab", "Sea", "Stripe", "OpenAI", "Tesla", "Nvidia", "Intel", "Oracle", "Salesforce"};
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hannah", "Ian", "Jane"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Ng", "Meier", "Kurz", "Pauline", "Best", "Kunz"};
+    private static final String[] ROLES = {"Software Engineer", "Data Analyst", "Product Manager",
+        "Frontend Engineer", "Backend Engineer", "Machine Learning Engineer", "Site Reliability Engineer"};
+    private static final String[] DESCRIPTION_WORDS = {"build", "design", "scalable", "services", "web",
+        "interfaces", "data", "pipelines", "models", "cloud", "mobile", "apps", "internal", "tools", "research"};
+    private static final String[] STATUSES = {"to_apply", "pending", "rejected", "accepted", "ongoing"};
+    private static final String[] LOCATIONS = {"local", "remote", "overseas", "unknown"};
+
+    /**
+     * Returns {@code count} internships generated from {@code seed}.
+     * The same arguments always produce internships with the same field values.
+     */
+    public static List<Internship> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Internship> internships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 6; w++) {
+                description.append(pick(random, DESCRIPTION_WORDS)).append(' ');
+            }
+            description.append("listing ").append(i);
+
+            TaskList taskList = new TaskList();
+            if (random.nextBoolean()) {
+                taskList.addTask(new Task("Submit resume"));
+            }
+            if (random.nextInt(4) == 0) {
+                taskList.addTask(new Task("Online assessment",
+                        String.format("%02d/%02d/2025", 1 + random.nextInt(28), 1 + random.nextInt(12))));
+            }
+
+            internships.add(new Internship(
+                    new CompanyName(pick(random, COMPANIES) + (random.nextBoolean() ? "" : " " + random.nextInt(50))),
+                    new ContactName(firstName + " " + lastName),
+                    new ContactEmail(firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@example.com"),
+                    new ContactNumber(String.valueOf(80000000 + random.nextInt(19999999))),
+                    new Location(pick(random, LOCATIONS)),
+                    new ApplicationStatus(pick(random, STATUSES)),
+                    new Description(description.toString()),
+                    new Role(pick(random, ROLES)),
+                    new Remark(random.nextInt(3) == 0 ? "Follow up with " + firstName : ""),
+                    taskList));
+        }
+        return internships;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
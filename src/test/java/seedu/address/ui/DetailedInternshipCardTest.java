@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.testfx.assertions.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
 
+import javafx.scene.Node;
 import seedu.address.model.internship.Internship;
 import seedu.address.testutil.TypicalInternships;
 
@@ -58,4 +60,21 @@ public class DetailedInternshipCardTest extends UiTestBase {
         assertThat(this.detailedInternshipCard.tasks)
                 .hasText("\nTasks:\n" + testInternship.getTaskList().toString());
     }
+
+    @Test
+    void bind_differentInternship_labelsUpdated() {
+        Internship otherInternship = TypicalInternships.BOB;
+        Node root = detailedInternshipCard.getRoot();
+        detailedInternshipCard.bind(otherInternship);
+
+        // the card is reused, not rebuilt
+        assertSame(root, detailedInternshipCard.getRoot());
+
+        assertThat(this.detailedInternshipCard.companyNameAndRole)
+                .hasText(otherInternship.getCompanyName().companyName + " -- " + otherInternship.getRole().role);
+        assertThat(this.detailedInternshipCard.cName)
+                .hasText("Contact name:\t\t" + otherInternship.getContactName().toString());
+        assertThat(this.detailedInternshipCard.tasks)
+                .hasText("\nTasks:\n" + otherInternship.getTaskList().toString());
+    }
 }
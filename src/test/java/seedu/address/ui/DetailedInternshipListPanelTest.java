@@ -29,10 +29,11 @@ public class DetailedInternshipListPanelTest extends UiTestBase {
     }
 
     @Test
-    public void selectInternship_index0_updatesLogicSelectedInternship() {
+    public void selectInternship_index1_selectsInternshipAtIndex() {
         detailedInternshipListPanel.getInternshipListView().getSelectionModel().select(1);
         Internship actualInternship = testLogic.getFilteredInternshipList().get(1);
-        Internship selectedInternship = testLogic.getSelectedInternship().get(1);
+        Internship selectedInternship = detailedInternshipListPanel.getInternshipListView().getSelectionModel()
+                .getSelectedItem();
         assertEquals(actualInternship, selectedInternship);
     }
 
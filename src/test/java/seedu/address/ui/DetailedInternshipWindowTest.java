@@ -0,0 +1,121 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.logic.InternshipLogic;
+import seedu.address.logic.InternshipLogicManager;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.internship.Internship;
+
+@ExtendWith(ApplicationExtension.class)
+public class DetailedInternshipWindowTest extends UiTestBase {
+
+    private static final int SELECTIONS = 10_000;
+    private static final int SELECTIONS_PER_BATCH = 500;
+    private static final long MAX_HEAP_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    private InternshipLogic logic;
+    private DetailedInternshipWindow detailedInternshipWindow;
+
+    @BeforeEach
+    public void setUp() {
+        logic = new InternshipLogicManager(
+                new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs()), null);
+        logic.setUiExecutor(Platform::runLater);
+        interact(() -> {
+            detailedInternshipWindow = new DetailedInternshipWindow(new Stage(), logic);
+            detailedInternshipWindow.show();
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        interact(() -> detailedInternshipWindow.hide());
+    }
+
+    @Test
+    public void populateInternshipDetails_differentSelections_onePanelShowsLatestSelection() {
+        List<Internship> internships = logic.getFilteredInternshipList();
+        select(internships, 0, 1);
+        select(internships, 1, 1);
+
+        Parent root = detailedInternshipWindow.getRoot().getScene().getRoot();
+        assertEquals(1, root.lookupAll("#internshipListView").size());
+        ListView<?> listView = (ListView<?>) root.lookup("#internshipListView");
+        assertEquals(List.of(internships.get(1)), listView.getItems());
+    }
+
+    @Test
+    public void populateInternshipDetails_manySelections_nodeCountAndHeapFlat() {
+        List<Internship> internships = logic.getFilteredInternshipList();
+
+        // the first batch creates the panel and warms it up
+        select(internships, 0, SELECTIONS_PER_BATCH);
+        int nodeCount = countNodes();
+        long usedHeap = getUsedHeap();
+
+        for (int start = SELECTIONS_PER_BATCH; start < SELECTIONS; start += SELECTIONS_PER_BATCH) {
+            select(internships, start, SELECTIONS_PER_BATCH);
+        }
+
+        assertEquals(nodeCount, countNodes());
+        long heapGrowth = getUsedHeap() - usedHeap;
+        assertTrue(heapGrowth < MAX_HEAP_GROWTH_BYTES, "Retained heap grew by " + heapGrowth + " bytes");
+    }
+
+    /**
+     * Selects {@code count} internships in turn, starting from the one at {@code start}, as clicks on the main window
+     * do, and waits for the detailed internship window to show the last of them.
+     */
+    private void select(List<Internship> internships, int start, int count) {
+        interact(() -> {
+            for (int i = start; i < start + count; i++) {
+                logic.setSelectedInternship(internships.get(i % internships.size()));
+                detailedInternshipWindow.populateInternshipDetails();
+            }
+        });
+        logic.awaitPendingCommands();
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    private int countNodes() {
+        int[] count = new int[1];
+        interact(() -> count[0] = countNodes(detailedInternshipWindow.getRoot().getScene().getRoot()));
+        return count[0];
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
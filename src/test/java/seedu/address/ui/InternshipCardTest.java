@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.testfx.assertions.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
 
+import javafx.scene.Node;
 import seedu.address.model.internship.Internship;
 import seedu.address.testutil.InternshipBuilder;
 import seedu.address.testutil.TypicalInternships;
@@ -84,4 +86,24 @@ class InternshipCardTest extends UiTestBase {
         assertThat(this.internshipCard.getStatusLabel().getStyle())
                 .contains(InternshipCard.STYLE_WITH_FONT_COLOUR_LIGHTSEAGREEN);
     }
+
+    @Test
+    void bind_differentInternship_labelsUpdated() {
+        Internship otherInternship = new InternshipBuilder(TypicalInternships.BOB).withApplicationStatus("REJECTED")
+                .build();
+        Node root = internshipCard.getRoot();
+        internshipCard.bind(otherInternship, 2);
+
+        // the card is reused, not rebuilt
+        assertSame(root, internshipCard.getRoot());
+        assertSame(otherInternship, internshipCard.getInternship());
+
+        assertThat(this.internshipCard.getIdLabel()).hasText("2. ");
+        assertThat(this.internshipCard.getCompanyNameAndRoleLabel())
+                .hasText(otherInternship.getCompanyName().companyName + " -- " + otherInternship.getRole().role);
+        assertThat(this.internshipCard.getRemarkLabel())
+                .hasText("Remark: " + otherInternship.getRemark().toString());
+        assertThat(this.internshipCard.getStatusLabel().getStyle())
+                .contains(InternshipCard.STYLE_WITH_FONT_COLOUR_RED);
+    }
 }
@@ -0,0 +1,137 @@
+package seedu.address.ui;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.SyntheticInternships;
+
+/**
+ * Headless scroll benchmark for {@link InternshipListPanel} over {@value #SIZE} internships.
+ *
+ * The list is scrolled from top to bottom {@value #STEP} rows at a time, once with the cells of the panel, which
+ * bind one card each, and once with cells that load a new card on every update, as the panel used to. For each,
+ * the CSS and layout pass that follows every scroll step is timed, and the bytes allocated on the JavaFX
+ * Application Thread during the scroll are reported. Each scroll is warmed up for {@value #WARM_UP_RUNS} runs
+ * before the best of {@value #RUNS} runs is taken.
+ *
+ * The JavaFX toolkit is started on the headless Monocle platform. Run with {@code ./gradlew scrollBenchmark}.
+ */
+public class InternshipListScrollBenchmark {
+
+    private static final int SIZE = 10_000;
+    private static final int STEP = 3;
+    private static final int WARM_UP_RUNS = 3;
+    private static final int RUNS = 5;
+    private static final double WIDTH = 800;
+    private static final double HEIGHT = 600;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("testfx.robot", "glass");
+        System.setProperty("testfx.headless", "true");
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.text", "t2k");
+        System.setProperty("java.awt.headless", "true");
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        List<Internship> internships = SyntheticInternships.generate(SIZE, SIZE);
+        System.out.printf("%-8s %16s %16s %16s%n", "cells", "mean frame (us)", "max frame (us)", "allocated (MB)");
+        runOnFxThread(() -> {
+            print("before", scroll(internships, true));
+            print("after", scroll(internships, false));
+        });
+        Platform.exit();
+    }
+
+    private static void print(String cells, double[] result) {
+        System.out.printf("%-8s %16.1f %16.1f %16.1f%n", cells, result[0], result[1], result[2]);
+    }
+
+    /**
+     * Scrolls through a panel of {@code internships}, with cells that load a new card on every update if
+     * {@code isLoadingCells}, and returns the mean and maximum time in microseconds of a frame, and the megabytes
+     * allocated, of the best run.
+     */
+    private static double[] scroll(List<Internship> internships, boolean isLoadingCells) {
+        InternshipListPanel panel = new InternshipListPanel(FXCollections.observableArrayList(internships));
+        ListView<Internship> listView = panel.getInternshipListView();
+        if (isLoadingCells) {
+            listView.setCellFactory(unused -> new LoadingCell());
+        }
+        Region root = panel.getRoot();
+        Stage stage = new Stage();
+        stage.setScene(new Scene(root, WIDTH, HEIGHT));
+        stage.show();
+
+        double[] best = null;
+        for (int run = 0; run < WARM_UP_RUNS + RUNS; run++) {
+            listView.scrollTo(0);
+            layout(root);
+            long allocatedBefore = getAllocatedBytes();
+            long total = 0;
+            long max = 0;
+            int frames = 0;
+            for (int i = 0; i < SIZE; i += STEP) {
+                long start = System.nanoTime();
+                listView.scrollTo(i);
+                layout(root);
+                long elapsed = System.nanoTime() - start;
+                total += elapsed;
+                max = Math.max(max, elapsed);
+                frames++;
+            }
+            double[] result = {total / 1e3 / frames, max / 1e3, (getAllocatedBytes() - allocatedBefore) / 1e6};
+            if (run >= WARM_UP_RUNS && (best == null || result[0] < best[0])) {
+                best = result;
+            }
+        }
+        stage.close();
+        return best;
+    }
+
+    private static void layout(Region root) {
+        root.applyCss();
+        root.layout();
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static void runOnFxThread(Runnable runnable) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                runnable.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+    }
+
+    /**
+     * A cell that loads a new card every time it is updated.
+     */
+    private static class LoadingCell extends ListCell<Internship> {
+        @Override
+        protected void updateItem(Internship internship, boolean empty) {
+            super.updateItem(internship, empty);
+            setGraphic(empty || internship == null ? null : new InternshipCard(internship, getIndex() + 1).getRoot());
+        }
+    }
+}
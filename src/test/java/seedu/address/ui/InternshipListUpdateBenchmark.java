@@ -0,0 +1,157 @@
+package seedu.address.ui;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.logic.InternshipLogic;
+import seedu.address.logic.InternshipLogicManager;
+import seedu.address.logic.parser.InternshipDataParser;
+import seedu.address.model.InternshipData;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.internship.Internship;
+import seedu.address.storage.InternshipStorageManager;
+import seedu.address.storage.JsonInternshipDataStorage;
+import seedu.address.storage.JsonInternshipUserPrefsStorage;
+import seedu.address.testutil.InternshipUtil;
+import seedu.address.testutil.SyntheticInternships;
+
+/**
+ * Update benchmark for {@link InternshipListPanel} over {@value #SIZE} internships.
+ *
+ * A burst of {@value #COMMANDS} add commands is entered, one per task of the JavaFX Application Thread, as key
+ * presses would be. Before, each command is executed on that thread against the model, whose list the panel shows.
+ * After, each command is handed to {@link InternshipLogic#executeAsync(String)}, and the panel shows the list
+ * published by the logic. For each, the number of changes that reach the list of the panel, and the number of
+ * pulses that lay the list out again, are reported.
+ *
+ * The JavaFX toolkit is started on the headless Monocle platform. Run with {@code ./gradlew updateBenchmark}.
+ */
+public class InternshipListUpdateBenchmark {
+
+    private static final int SIZE = 10_000;
+    private static final int COMMANDS = 1_000;
+    private static final double WIDTH = 800;
+    private static final double HEIGHT = 600;
+
+    private static int changeCount;
+    private static int layoutCount;
+    private static boolean isLayoutNeeded;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("testfx.robot", "glass");
+        System.setProperty("testfx.headless", "true");
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.text", "t2k");
+        System.setProperty("java.awt.headless", "true");
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        List<Internship> internships = SyntheticInternships.generate(SIZE + COMMANDS, SIZE);
+        List<Internship> existingInternships = internships.subList(0, SIZE);
+        List<Internship> addedInternships = internships.subList(SIZE, SIZE + COMMANDS);
+
+        System.out.printf("%-8s %10s %10s %12s%n", "updates", "commands", "changes", "relayouts");
+        InternshipModel model = createModel(existingInternships);
+        InternshipDataParser parser = new InternshipDataParser();
+        measure("before", model.getFilteredInternshipList(), addedInternships,
+                commandText -> parser.parseCommand(commandText).execute(model));
+
+        Path folder = Files.createTempDirectory("updateBenchmark");
+        InternshipLogic logic = new InternshipLogicManager(createModel(existingInternships),
+                new InternshipStorageManager(new JsonInternshipDataStorage(folder.resolve("data.json")),
+                        new JsonInternshipUserPrefsStorage(folder.resolve("prefs.json"))), true);
+        logic.setUiExecutor(Platform::runLater);
+        measure("after", logic.getFilteredInternshipList(), addedInternships,
+                commandText -> logic.executeAsync(commandText));
+        logic.flushPendingSaves();
+        Platform.exit();
+    }
+
+    private static InternshipModel createModel(List<Internship> internships) {
+        InternshipData data = new InternshipData();
+        data.setInternships(internships);
+        return new InternshipModelManager(data, new InternshipUserPrefs());
+    }
+
+    /**
+     * Enters an add command for each of {@code addedInternships} on the JavaFX Application Thread, with a panel of
+     * {@code shownList} showing, and prints the number of changes and relayouts of the panel.
+     */
+    private static void measure(String updates, ObservableList<Internship> shownList,
+            List<Internship> addedInternships, CommandEntry commandEntry) throws Exception {
+        runOnFxThread(() -> {
+            InternshipListPanel panel = new InternshipListPanel(shownList);
+            ListView<Internship> listView = panel.getInternshipListView();
+            Stage stage = new Stage();
+            Scene scene = new Scene(panel.getRoot(), WIDTH, HEIGHT);
+            stage.setScene(scene);
+            stage.show();
+
+            changeCount = 0;
+            layoutCount = 0;
+            shownList.addListener((ListChangeListener<Internship>) change -> changeCount++);
+            listView.needsLayoutProperty().addListener((unused, wasNeeded, isNeeded) ->
+                    isLayoutNeeded |= isNeeded);
+            scene.addPostLayoutPulseListener(() -> {
+                if (isLayoutNeeded) {
+                    layoutCount++;
+                    isLayoutNeeded = false;
+                }
+            });
+        });
+
+        for (Internship internship : addedInternships) {
+            String commandText = InternshipUtil.getAddCommand(internship);
+            Platform.runLater(() -> {
+                try {
+                    commandEntry.enter(commandText);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        // waits for the commands to finish, and for a few more pulses to lay out the results
+        int[] shownSize = new int[1];
+        while (shownSize[0] < SIZE + addedInternships.size()) {
+            Thread.sleep(10);
+            runOnFxThread(() -> shownSize[0] = shownList.size());
+        }
+        Thread.sleep(200);
+        runOnFxThread(() -> System.out.printf("%-8s %10d %10d %12d%n", updates, addedInternships.size(),
+                changeCount, layoutCount));
+    }
+
+    private static void runOnFxThread(Runnable runnable) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                runnable.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+    }
+
+    /**
+     * Represents a way of entering a command.
+     */
+    @FunctionalInterface
+    private interface CommandEntry {
+        void enter(String commandText) throws Exception;
+    }
+}